@@ -0,0 +1,42 @@
+#!/usr/bin/env bash
+# Compara arranque y memoria del jar (JVM) contra el ejecutable nativo.
+# Requiere haber corrido antes:
+#   mvn -DskipTests package
+#   mvn -Pnative -DskipTests native:compile
+# Uso: scripts/native-report.sh [puerto]
+set -euo pipefail
+
+PORT="${1:-8080}"
+JAR="target/todolist-0.0.1-SNAPSHOT.jar"
+NATIVE="target/todolist"
+REPORT="target/native-report.md"
+
+measure() {
+  local name="$1"; shift
+  local log="target/${name}.log"
+  local start end pid rss startup
+
+  start=$(date +%s%N)
+  "$@" --server.port="$PORT" --app.warmup.enabled=false > "$log" 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:${PORT}/actuator/health/readiness" > /dev/null; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "$name exited before becoming ready, see $log" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  end=$(date +%s%N)
+
+  rss=$(awk '/VmRSS/ {print $2}' "/proc/${pid}/status")
+  startup=$(grep -o 'Started TodolistApplication in [0-9.]* seconds' "$log" | grep -o '[0-9.]*' || echo "?")
+  kill "$pid" && wait "$pid" 2> /dev/null || true
+
+  printf '| %s | %s s | %d ms | %d MB |\n' "$name" "$startup" $(( (end - start) / 1000000 )) $(( rss / 1024 )) >> "$REPORT"
+}
+
+echo "| Build | Reported startup | Time to ready | RSS when ready |" > "$REPORT"
+echo "|-------|------------------|---------------|----------------|" >> "$REPORT"
+measure jvm java -jar "$JAR"
+measure native "$NATIVE"
+cat "$REPORT"
@@ -1,9 +1,14 @@
 package com.example.todolist;
 
+import com.example.todolist.config.TaskApiRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(TaskApiRuntimeHints.class)
 public class TodolistApplication {
 
 	public static void main(String[] args) {
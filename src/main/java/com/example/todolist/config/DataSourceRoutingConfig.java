@@ -0,0 +1,68 @@
+package com.example.todolist.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces the auto-configured DataSource with a primary/replica router when
+ * {@code app.datasource.routing.enabled=true}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(ReplicaRoutingProperties properties) {
+        DataSource primary = createPool("primary", properties.getPrimary());
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        List<ReplicaRoutingProperties.Node> nodes = properties.getReplicas();
+        for (int i = 0; i < nodes.size(); i++) {
+            String name = "replica-" + i;
+            replicas.put(name, createPool(name, nodes.get(i)));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        // Resuelve la conexión real recién cuando se usa, con el flag readOnly ya aplicado
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                     ReplicaRoutingProperties properties) {
+        return new ReplicaHealthChecker(replicaRoutingDataSource, properties);
+    }
+
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(ReplicaRoutingProperties properties) {
+        return new ReadYourWritesFilter(properties.getStickyWindow());
+    }
+
+    private static DataSource createPool(String name, ReplicaRoutingProperties.Node node) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword())
+                .build();
+        dataSource.setPoolName("todolist-" + name);
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        return dataSource;
+    }
+}
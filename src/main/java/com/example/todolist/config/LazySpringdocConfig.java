@@ -0,0 +1,42 @@
+package com.example.todolist.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Outside the {@code dev} profile, springdoc and {@link OpenApiConfig} beans are created on the first
+ * request to the docs instead of during startup.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("!dev")
+public class LazySpringdocConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    @Bean
+    public static BeanFactoryPostProcessor lazySpringdocBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isDocumentationBean(beanFactory, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isDocumentationBean(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String owner = definition.getBeanClassName();
+        // Beans declarados con @Bean: se mira la clase de configuración que los declara
+        if (owner == null && definition.getFactoryBeanName() != null
+                && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            owner = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+        return owner != null
+                && (owner.startsWith(SPRINGDOC_PACKAGE) || owner.equals(OpenApiConfig.class.getName()));
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.todolist.config;
+
+/**
+ * Holds, for the current request thread, whether reads must be pinned to the primary
+ * because the client wrote recently.
+ */
+public final class ReadYourWritesContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static void clear() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
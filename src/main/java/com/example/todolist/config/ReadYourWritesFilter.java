@@ -0,0 +1,88 @@
+package com.example.todolist.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.WebUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pins a client's reads to the primary for a short window after it performs a mutation, so it never
+ * reads a replica that has not caught up with its own write yet.
+ * Clients are identified by the {@code X-Client-Id} header or, without it, by a cookie issued on their
+ * first write. The remote address is never used: behind a load balancer it would pin every client at once.
+ * A request counts as a write by its method, except for the read-only {@code POST} endpoints in
+ * {@link #READ_ONLY_PATHS}.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    public static final String CLIENT_ID_COOKIE = "rw-client-id";
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    // POST solo por el tamaño del body: no escriben y deben seguir yendo a las réplicas
+    static final Set<String> READ_ONLY_PATHS = Set.of("/api/tasks/lookup");
+
+    private final Map<String, Long> lastWriteByClient = new ConcurrentHashMap<>();
+    private final long stickyWindowNanos;
+
+    public ReadYourWritesFilter(Duration stickyWindow) {
+        this.stickyWindowNanos = stickyWindow.toNanos();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        boolean mutating = MUTATING_METHODS.contains(request.getMethod())
+                && !READ_ONLY_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+        String client = clientKey(request);
+        if (client == null && mutating) {
+            // La cookie se emite antes de ejecutar la escritura, mientras la respuesta aún no está confirmada
+            client = UUID.randomUUID().toString();
+            Cookie cookie = new Cookie(CLIENT_ID_COOKIE, client);
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            response.addCookie(cookie);
+        }
+
+        Long lastWrite = client != null ? lastWriteByClient.get(client) : null;
+        if (lastWrite != null && System.nanoTime() - lastWrite < stickyWindowNanos) {
+            ReadYourWritesContext.pinToPrimary();
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+            if (mutating && response.getStatus() < 400) {
+                lastWriteByClient.put(client, System.nanoTime());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.sticky-window:PT5S}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteByClient.values().removeIf(lastWrite -> now - lastWrite >= stickyWindowNanos);
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        if (StringUtils.hasText(clientId)) {
+            return clientId;
+        }
+        Cookie cookie = WebUtils.getCookie(request, CLIENT_ID_COOKIE);
+        return cookie != null && StringUtils.hasText(cookie.getValue()) ? cookie.getValue() : null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.todolist.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Periodically validates every replica with {@code probe-query} and, when a lag query is configured,
+ * takes replicas that fall too far behind out of rotation so reads fall back to the primary.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final ReplicaRoutingProperties properties;
+
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:PT5S}")
+    public void checkReplicas() {
+        routingDataSource.getReplicas().forEach((name, dataSource) -> {
+            boolean healthy = isHealthy(name, dataSource);
+            if (routingDataSource.setHealthy(name, healthy)) {
+                log.info("Replica {} is now {}", name, healthy ? "in rotation" : "out of rotation");
+            }
+        });
+    }
+
+    private boolean isHealthy(String name, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                return false;
+            }
+            if (StringUtils.hasText(properties.getProbeQuery())) {
+                // Una réplica sin el esquema acepta conexiones pero falla cada lectura
+                try (Statement statement = connection.createStatement()) {
+                    statement.setQueryTimeout(VALIDATION_TIMEOUT_SECONDS);
+                    statement.executeQuery(properties.getProbeQuery()).close();
+                }
+            }
+            if (!StringUtils.hasText(properties.getLagQuery())) {
+                return true;
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+                if (!rs.next()) {
+                    return false;
+                }
+                long lagMillis = rs.getLong(1);
+                if (lagMillis > properties.getMaxReplicationLag().toMillis()) {
+                    log.debug("Replica {} lags {} ms behind the primary", name, lagMillis);
+                    return false;
+                }
+                return true;
+            }
+        } catch (SQLException ex) {
+            log.warn("Health check failed for replica {}: {}", name, ex.getMessage());
+            return false;
+        }
+    }
+}
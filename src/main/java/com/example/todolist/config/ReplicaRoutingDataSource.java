@@ -0,0 +1,92 @@
+package com.example.todolist.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to a healthy replica (round robin) and everything else to the primary.
+ * Must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the
+ * lookup happens once the transaction's read-only flag is already bound.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final Map<String, DataSource> replicas;
+    private final Set<String> healthyReplicas = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = Collections.unmodifiableMap(new LinkedHashMap<>(replicas));
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReadYourWritesContext.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        // Las réplicas arrancan como no saludables hasta el primer health check
+        List<String> candidates = new ArrayList<>(replicas.size());
+        for (String name : replicas.keySet()) {
+            if (healthyReplicas.contains(name)) {
+                candidates.add(name);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(counter.getAndIncrement(), candidates.size()));
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @return {@code true} if the health state of the replica changed
+     */
+    public boolean setHealthy(String replica, boolean healthy) {
+        return healthy ? healthyReplicas.add(replica) : healthyReplicas.remove(replica);
+    }
+
+    public boolean isHealthy(String replica) {
+        return healthyReplicas.contains(replica);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (DataSource replica : replicas.values()) {
+            close(replica);
+        }
+        close(primary);
+    }
+
+    private static void close(DataSource dataSource) throws IOException {
+        if (dataSource instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+}
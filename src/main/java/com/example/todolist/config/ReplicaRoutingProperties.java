@@ -0,0 +1,41 @@
+package com.example.todolist.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReplicaRoutingProperties {
+
+    private boolean enabled;
+
+    private Node primary = new Node();
+
+    private List<Node> replicas = new ArrayList<>();
+
+    // Intervalo entre health checks de las réplicas
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // Query que debe funcionar en una réplica sana: comprueba que el esquema existe, no solo la conexión
+    private String probeQuery = "SELECT 1 FROM tasks WHERE 1 = 0";
+
+    // Query opcional que devuelve el lag de replicación en milisegundos
+    private String lagQuery;
+
+    private Duration maxReplicationLag = Duration.ofSeconds(2);
+
+    // Tiempo que un cliente queda fijado al primario después de escribir
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    @Data
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.todolist.config;
+
+import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.service.TaskService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Runs before the application reports readiness (runners complete before ACCEPTING_TRAFFIC is published):
+ * loads the most recently updated tasks into the second-level cache and sends read-only requests through
+ * the full HTTP stack so the JIT has compiled the hot paths before real traffic arrives.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup implements ApplicationRunner {
+
+    private final TaskService taskService;
+    private final ApplicationContext applicationContext;
+    private final int hotTasks;
+    private final int iterations;
+
+    public StartupWarmup(TaskService taskService,
+                         ApplicationContext applicationContext,
+                         @Value("${app.warmup.hot-tasks:100}") int hotTasks,
+                         @Value("${app.warmup.iterations:200}") int iterations) {
+        this.taskService = taskService;
+        this.applicationContext = applicationContext;
+        this.hotTasks = hotTasks;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+
+        List<Long> hotIds = preloadHotTasks();
+        if (applicationContext instanceof WebServerApplicationContext webContext) {
+            exerciseEndpoints(webContext.getWebServer().getPort(), hotIds);
+        }
+
+        log.info("Warm-up finished in {} ms ({} hot tasks preloaded)",
+                Duration.ofNanos(System.nanoTime() - start).toMillis(), hotIds.size());
+    }
+
+    List<Long> preloadHotTasks() {
+        List<Long> ids = taskService
+                .getAllTasks(PageRequest.of(0, hotTasks, Sort.by("updatedAt").descending()))
+                .map(TaskResponseDTO::getId)
+                .getContent();
+        // Cada findById deja la entidad en el cache de segundo nivel
+        ids.forEach(taskService::getTaskById);
+        taskService.getTasksByStatus(false, PageRequest.of(0, 20));
+        taskService.getTasksByStatus(true, PageRequest.of(0, 20));
+        return ids;
+    }
+
+    private void exerciseEndpoints(int port, List<Long> hotIds) {
+        if (port <= 0) {
+            return;
+        }
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+        String base = "http://localhost:" + port + "/api/tasks";
+        try {
+            for (int i = 0; i < iterations; i++) {
+                send(client, base + "?page=0&size=20");
+                send(client, base + "?completed=false&page=0&size=20&sortBy=createdAt&direction=DESC");
+                if (!hotIds.isEmpty()) {
+                    send(client, base + "/" + hotIds.get(i % hotIds.size()));
+                }
+            }
+        } catch (IOException ex) {
+            log.warn("HTTP warm-up skipped: {}", ex.getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void send(HttpClient client, String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+}
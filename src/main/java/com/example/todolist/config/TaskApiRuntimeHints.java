@@ -0,0 +1,50 @@
+package com.example.todolist.config;
+
+import com.example.todolist.dto.CacheStatsDTO;
+import com.example.todolist.dto.PageResponseDTO;
+import com.example.todolist.dto.TaskCreateDTO;
+import com.example.todolist.dto.TaskImportDTO;
+import com.example.todolist.dto.TaskLookupDTO;
+import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.dto.TaskStatsDTO;
+import com.example.todolist.exception.GlobalExceptionHandler;
+import com.example.todolist.model.Task;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.BindingReflectionHintsRegistrar;
+
+/**
+ * Reachability metadata for the native image. Types returned through {@code ResponseEntity<?>} or built
+ * reflectively by Jackson/Hibernate are not discovered by the AOT engine on their own.
+ */
+public class TaskApiRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // DTOs generados por Lombok: Jackson usa constructores, getters y setters por reflexión
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                TaskCreateDTO.class,
+                TaskImportDTO.class,
+                TaskResponseDTO.class,
+                TaskLookupDTO.class,
+                TaskStatsDTO.class,
+                PageResponseDTO.class,
+                CacheStatsDTO.class,
+                GlobalExceptionHandler.ErrorResponse.class);
+
+        hints.reflection().registerType(Task.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS,
+                MemberCategory.DECLARED_FIELDS);
+
+        // Proveedor JCache y su configuración (Typesafe Config lee application.conf / reference.conf)
+        hints.reflection().registerType(
+                TypeReference.of("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider"),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern("application.conf");
+        hints.resources().registerPattern("reference.conf");
+        hints.resources().registerPattern("META-INF/services/javax.cache.spi.CachingProvider");
+    }
+}
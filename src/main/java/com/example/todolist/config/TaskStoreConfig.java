@@ -0,0 +1,28 @@
+package com.example.todolist.config;
+
+import com.example.todolist.repository.CoalescingTaskStore;
+import com.example.todolist.repository.JpaTaskStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+import java.time.Duration;
+
+@Configuration
+public class TaskStoreConfig {
+
+    // Con el motor en memoria un lookup es un acceso al mapa, no hay nada que agrupar
+    @Bean
+    @Primary
+    @Profile("!inmemory")
+    @ConditionalOnProperty(prefix = "app.lookup.coalescing", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public CoalescingTaskStore coalescingTaskStore(JpaTaskStore jpaTaskStore,
+                                                   @Value("${app.lookup.coalescing.window-micros:1000}") long windowMicros,
+                                                   @Value("${app.lookup.coalescing.max-batch-size:100}") int maxBatchSize,
+                                                   @Value("${app.lookup.coalescing.timeout:PT5S}") Duration timeout) {
+        return new CoalescingTaskStore(jpaTaskStore, windowMicros, maxBatchSize, timeout);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.todolist.controller;
+
+import com.example.todolist.dto.CacheStatsDTO;
+import com.example.todolist.service.TaskCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache", description = "Second-level cache statistics")
+public class CacheController {
+
+    private final TaskCacheService taskCacheService;
+
+    @Operation(summary = "Get cache statistics", description = "Returns hit/miss/put counters of the task entity and query caches")
+    @GetMapping("/stats")
+    public ResponseEntity<CacheStatsDTO> getStatistics() {
+        return ResponseEntity.ok(taskCacheService.getStatistics());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.todolist.controller;
+
+import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.service.TaskArchiveService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tasks/archive")
+@RequiredArgsConstructor
+@Profile("!inmemory")
+@Tag(name = "Archive", description = "Archived (completed and old) tasks")
+public class TaskArchiveController {
+
+    private final TaskArchiveService taskArchiveService;
+
+    @Operation(summary = "Get archived task by ID", description = "Returns a task that was moved to the archive")
+    @GetMapping("/{id}")
+    public ResponseEntity<TaskResponseDTO> getArchivedTaskById(@PathVariable Long id) {
+        return ResponseEntity.ok(taskArchiveService.getArchivedTaskById(id));
+    }
+}
@@ -2,7 +2,10 @@ package com.example.todolist.controller;
 
 import com.example.todolist.dto.PageResponseDTO;
 import com.example.todolist.dto.TaskCreateDTO;
+import com.example.todolist.dto.TaskLookupDTO;
 import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.dto.TaskStatsDTO;
+import com.example.todolist.service.IdempotencyStore;
 import com.example.todolist.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
@@ -27,6 +30,7 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final IdempotencyStore idempotencyStore;
 
     @Operation(summary = "Get all tasks", description = "Returns all tasks with optional pagination and filtering")
     @GetMapping
@@ -65,15 +69,31 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    @Operation(summary = "Get task statistics", description = "Returns totals, completed/pending counts and creations per day from in-memory counters")
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsDTO> getStatistics() {
+        return ResponseEntity.ok(taskService.getStatistics());
+    }
+
     @Operation(summary = "Get task by ID", description = "Returns a single task by its ID")
     @GetMapping("/{id}")
     public ResponseEntity<TaskResponseDTO> getTaskById(@PathVariable Long id) {
         return ResponseEntity.ok(taskService.getTaskById(id));
     }
 
+    @Operation(summary = "Get tasks by IDs", description = "Returns the existing tasks among the given IDs, in request order, with a single query")
+    @PostMapping("/lookup")
+    public ResponseEntity<List<TaskResponseDTO>> lookupTasks(@Valid @RequestBody TaskLookupDTO lookupDTO) {
+        return ResponseEntity.ok(taskService.getTasksByIds(lookupDTO.getIds()));
+    }
+
+    @Operation(summary = "Create a task", description = "Retries with the same Idempotency-Key return the original task instead of creating another one")
     @PostMapping
-    public ResponseEntity<TaskResponseDTO> createTask(@Valid @RequestBody TaskCreateDTO createDTO) {
-        TaskResponseDTO created = taskService.createTask(createDTO);
+    public ResponseEntity<TaskResponseDTO> createTask(
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody TaskCreateDTO createDTO) {
+        TaskResponseDTO created = idempotencyStore.execute("create", idempotencyKey, createDTO,
+                () -> taskService.createTask(createDTO));
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
@@ -84,9 +104,13 @@ public class TaskController {
         return ResponseEntity.ok(taskService.updateTask(id, updateDTO));
     }
 
+    @Operation(summary = "Toggle task completion", description = "Retries with the same Idempotency-Key return the original result instead of toggling back")
     @PatchMapping("/{id}/toggle")
-    public ResponseEntity<TaskResponseDTO> toggleTaskCompletion(@PathVariable Long id) {
-        return ResponseEntity.ok(taskService.toggleTaskCompletion(id));
+    public ResponseEntity<TaskResponseDTO> toggleTaskCompletion(
+            @PathVariable Long id,
+            @RequestHeader(value = IdempotencyStore.HEADER, required = false) String idempotencyKey) {
+        return ResponseEntity.ok(idempotencyStore.execute("toggle", idempotencyKey, id,
+                () -> taskService.toggleTaskCompletion(id)));
     }
 
     @DeleteMapping("/{id}")
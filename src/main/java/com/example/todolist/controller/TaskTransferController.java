@@ -0,0 +1,81 @@
+package com.example.todolist.controller;
+
+import com.example.todolist.dto.ImportResultDTO;
+import com.example.todolist.exception.UnsupportedFormatException;
+import com.example.todolist.service.TaskTransferService;
+import com.example.todolist.service.TaskTransferService.Format;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/tasks")
+@Tag(name = "Import/Export", description = "Bulk task import and export in NDJSON or CSV")
+public class TaskTransferController {
+
+    private final TaskTransferService taskTransferService;
+    private final long exportTimeoutMillis;
+
+    public TaskTransferController(TaskTransferService taskTransferService,
+                                  @Value("${app.transfer.export-timeout:PT1H}") Duration exportTimeout) {
+        this.taskTransferService = taskTransferService;
+        this.exportTimeoutMillis = exportTimeout.toMillis();
+    }
+
+    @Operation(summary = "Import tasks", description = "Streams an NDJSON or CSV body and inserts valid rows in batches; invalid rows are reported with their line number")
+    @PostMapping(value = "/import", consumes = {TaskTransferService.NDJSON_VALUE, TaskTransferService.CSV_VALUE})
+    public ResponseEntity<ImportResultDTO> importTasks(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            HttpServletRequest request) throws IOException {
+        // Se lee el body directamente para no cargarlo entero en memoria
+        return ResponseEntity.ok(taskTransferService.importTasks(request.getInputStream(), Format.fromMediaType(contentType)));
+    }
+
+    @Operation(summary = "Import tasks from a file upload", description = "Same as the streaming import, with the file sent as multipart/form-data")
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ImportResultDTO> importTasksFile(@RequestPart("file") MultipartFile file) throws IOException {
+        Format format = file.getContentType() != null && !file.getContentType().equals(MediaType.APPLICATION_OCTET_STREAM_VALUE)
+                ? Format.fromMediaType(MediaType.parseMediaType(file.getContentType()))
+                : Format.fromName(extension(file.getOriginalFilename()));
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(taskTransferService.importTasks(input, format));
+        }
+    }
+
+    @Operation(summary = "Export tasks", description = "Streams every task as NDJSON or CSV")
+    @GetMapping("/export")
+    public WebAsyncTask<ResponseEntity<Void>> exportTasks(@RequestParam(defaultValue = "ndjson") String format,
+                                                          HttpServletResponse response) throws IOException {
+        Format exportFormat = Format.fromName(format);
+        response.setContentType(exportFormat.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + exportFormat.getExtension() + "\"");
+        OutputStream output = response.getOutputStream();
+        // Timeout propio: el global de spring.mvc.async aplica al resto de endpoints
+        return new WebAsyncTask<>(exportTimeoutMillis, () -> {
+            taskTransferService.exportTasks(exportFormat, output);
+            output.flush();
+            // El body ya está escrito; un resultado null no agrega nada a la respuesta
+            return null;
+        });
+    }
+
+    private static String extension(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            throw new UnsupportedFormatException("Cannot determine file format; use a .ndjson or .csv file");
+        }
+        return filename.substring(filename.lastIndexOf('.') + 1);
+    }
+}
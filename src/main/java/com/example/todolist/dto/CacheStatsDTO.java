@@ -0,0 +1,19 @@
+package com.example.todolist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class CacheStatsDTO {
+    // false si app.cache.statistics-enabled está apagado: los contadores quedan en 0
+    private boolean statisticsEnabled;
+    private long entityCacheHits;
+    private long entityCacheMisses;
+    private long entityCachePuts;
+    private long queryCacheHits;
+    private long queryCacheMisses;
+    private long queryCachePuts;
+    private long queryExecutions;
+    private long jdbcStatements;
+}
@@ -0,0 +1,27 @@
+package com.example.todolist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportResultDTO {
+    private long processed;
+    private long imported;
+    private long failed;
+    private List<RowError> errors;
+    // true si hubo más errores de los que se reportan
+    private boolean errorsTruncated;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String message;
+    }
+}
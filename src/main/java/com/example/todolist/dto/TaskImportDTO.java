@@ -0,0 +1,24 @@
+package com.example.todolist.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * One imported row. Accepts the fields written by the export so a dump can be re-imported without
+ * losing state; the id is ignored and a new one is assigned.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonIgnoreProperties("id")
+public class TaskImportDTO extends TaskCreateDTO {
+
+    // Si faltan: completed=false, createdAt=ahora, updatedAt=createdAt
+    private Boolean completed;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
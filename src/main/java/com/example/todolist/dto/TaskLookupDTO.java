@@ -0,0 +1,16 @@
+package com.example.todolist.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class TaskLookupDTO {
+
+    @NotEmpty(message = "At least one id is required")
+    @Size(max = 500, message = "Cannot look up more than 500 ids at once")
+    private List<@NotNull(message = "Ids cannot be null") Long> ids;
+}
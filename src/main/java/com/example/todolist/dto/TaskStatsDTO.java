@@ -0,0 +1,20 @@
+package com.example.todolist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsDTO {
+    private long total;
+    private long completed;
+    private long pending;
+    private Map<LocalDate, Long> createdPerDay;
+    private LocalDateTime reconciledAt;
+}
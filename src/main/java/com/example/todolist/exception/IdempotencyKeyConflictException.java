@@ -0,0 +1,7 @@
+package com.example.todolist.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+    public IdempotencyKeyConflictException(String key) {
+        super("Idempotency-Key '" + key + "' was already used with a different request");
+    }
+}
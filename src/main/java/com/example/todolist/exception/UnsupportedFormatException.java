@@ -0,0 +1,7 @@
+package com.example.todolist.exception;
+
+public class UnsupportedFormatException extends RuntimeException {
+    public UnsupportedFormatException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.todolist.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "archived_tasks")
+@Data
+@NoArgsConstructor
+public class ArchivedTask implements Persistable<Long> {
+
+    // Mismo id que tenía en la tabla tasks
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false)
+    private Boolean completed;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // El id viene asignado: sin esto save() haría merge (un SELECT por fila) en vez de persist
+    @Transient
+    private boolean newEntity = true;
+
+    public static ArchivedTask from(Task task, LocalDateTime archivedAt) {
+        ArchivedTask archived = new ArchivedTask();
+        archived.setId(task.getId());
+        archived.setTitle(task.getTitle());
+        archived.setDescription(task.getDescription());
+        archived.setCompleted(task.getCompleted());
+        archived.setCreatedAt(task.getCreatedAt());
+        archived.setUpdatedAt(task.getUpdatedAt());
+        archived.setArchivedAt(archivedAt);
+        return archived;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.model.ArchivedTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+}
@@ -0,0 +1,243 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.config.ReadYourWritesContext;
+import com.example.todolist.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Decorates a {@link TaskStore} so that concurrent {@link #findById} calls are served by one
+ * {@code findAllById} query: lookups arriving within a short window are batched together, and
+ * concurrent lookups of the same id share a single future. Ids already in the second-level cache are
+ * served from it without batching. The first caller of a batch runs its query on its own thread and
+ * connection, so waiting callers never need a second connection. It only waits for the window when
+ * other lookups are in progress; an uncontended lookup runs at once. Everything else goes straight
+ * to the delegate.
+ */
+public class CoalescingTaskStore implements TaskStore {
+
+    private final TaskStore delegate;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final long timeoutNanos;
+
+    private final Map<Long, CompletableFuture<Optional<Task>>> inFlight = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    // Lookups en curso (incluye la consulta a la cache): si solo está el líder, nadie se sumaría al lote
+    private final AtomicInteger activeLookups = new AtomicInteger();
+
+    // Protegido por lock: lote que todavía acepta ids
+    private List<Long> pending;
+
+    public CoalescingTaskStore(TaskStore delegate, long windowMicros, int maxBatchSize, Duration timeout) {
+        this.delegate = delegate;
+        this.windowNanos = TimeUnit.MICROSECONDS.toNanos(windowMicros);
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        // Dentro de una transacción de escritura se necesita la entidad managed de esa transacción,
+        // y un cliente fijado al primario no puede compartir un lote que quizás lea de una réplica
+        if ((TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())
+                || ReadYourWritesContext.isPinnedToPrimary()) {
+            return delegate.findById(id);
+        }
+
+        activeLookups.incrementAndGet();
+        try {
+            Optional<Task> cached = delegate.findCachedById(id);
+            return cached.isPresent() ? cached : coalesce(id);
+        } finally {
+            activeLookups.decrementAndGet();
+        }
+    }
+
+    private Optional<Task> coalesce(Long id) {
+        CompletableFuture<Optional<Task>> created = new CompletableFuture<>();
+        CompletableFuture<Optional<Task>> shared = inFlight.putIfAbsent(id, created);
+        if (shared == null) {
+            shared = created;
+            enqueue(id);
+        }
+
+        try {
+            // Cada llamador recibe su propia copia de la entidad compartida
+            return shared.get(timeoutNanos, TimeUnit.NANOSECONDS).map(CoalescingTaskStore::copy);
+        } catch (TimeoutException ex) {
+            return delegate.findById(id);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for task " + id, ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private void enqueue(Long id) {
+        List<Long> batch;
+        boolean leader = false;
+        boolean full = false;
+        synchronized (lock) {
+            if (pending == null) {
+                pending = new ArrayList<>();
+                leader = true;
+            }
+            batch = pending;
+            batch.add(id);
+            if (batch.size() >= maxBatchSize) {
+                pending = null;
+                full = true;
+            }
+        }
+
+        if (full) {
+            load(batch);
+            return;
+        }
+        if (!leader) {
+            return;
+        }
+
+        // El primero del lote espera la ventana y lo ejecuta, salvo que otro lo haya llenado antes.
+        // Sin otros lookups en curso la espera solo agregaría latencia
+        if (activeLookups.get() > 1) {
+            LockSupport.parkNanos(windowNanos);
+        }
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        }
+        load(batch);
+    }
+
+    private void load(List<Long> batch) {
+        Map<Long, Task> found = Map.of();
+        Throwable failure = null;
+        try {
+            found = delegate.findAllById(batch).stream()
+                    .collect(Collectors.toMap(Task::getId, Function.identity()));
+        } catch (Throwable ex) {
+            failure = ex;
+            throw ex;
+        } finally {
+            // Siempre se completan los futures; uno colgado bloquearía todos los lookups de ese id
+            for (Long id : batch) {
+                CompletableFuture<Optional<Task>> future = inFlight.remove(id);
+                if (future == null) {
+                    continue;
+                }
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                } else {
+                    future.complete(Optional.ofNullable(found.get(id)));
+                }
+            }
+        }
+    }
+
+    private static Task copy(Task task) {
+        return new Task(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getCompleted(),
+                task.getCreatedAt(),
+                task.getUpdatedAt()
+        );
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Page<Task> findAll(Pageable pageable) {
+        return delegate.findAll(pageable);
+    }
+
+    @Override
+    public List<Task> findAllById(Iterable<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Task> findCachedById(Long id) {
+        return delegate.findCachedById(id);
+    }
+
+    @Override
+    public List<Task> findByCompleted(Boolean completed) {
+        return delegate.findByCompleted(completed);
+    }
+
+    @Override
+    public Page<Task> findByCompleted(Boolean completed, Pageable pageable) {
+        return delegate.findByCompleted(completed, pageable);
+    }
+
+    @Override
+    public Task save(Task task) {
+        return delegate.save(task);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public void insertAll(List<Task> tasks) {
+        delegate.insertAll(tasks);
+    }
+
+    @Override
+    public void forEachTask(Consumer<Task> action) {
+        delegate.forEachTask(action);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public long countByCompleted(Boolean completed) {
+        return delegate.countByCompleted(completed);
+    }
+
+    @Override
+    public Map<LocalDate, Long> countCreatedPerDaySince(LocalDateTime since) {
+        return delegate.countCreatedPerDaySince(since);
+    }
+}
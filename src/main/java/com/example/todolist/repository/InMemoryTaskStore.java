@@ -0,0 +1,580 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.model.Task;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Task store kept entirely in memory, for deployments without a database ({@code inmemory} profile).
+ * Tasks live in a striped primitive-keyed map; ordered skip-list indexes on id, status, createdAt and
+ * updatedAt (which hold boxed ids) serve paging without sorting the whole data set. Optionally
+ * snapshots to a memory-mapped file.
+ */
+@Slf4j
+@Component
+@Profile("inmemory")
+public class InMemoryTaskStore implements TaskStore {
+
+    private static final int SNAPSHOT_MAGIC = 0x5441534B; // "TASK"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int SNAPSHOT_HEADER_SIZE = 4 + 4 + 8 + 4;
+    private static final int DEFAULT_SNAPSHOT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+    private static final Comparator<IndexEntry> INDEX_ORDER =
+            Comparator.comparing(IndexEntry::value).thenComparingLong(IndexEntry::id);
+
+    private final LongTaskMap tasks;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong completedCount = new AtomicLong();
+    // Contador propio: total - completadas leería dos contadores que no cambian juntos
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    // El mapa no tiene orden: este índice da el orden por id para findAll y la paginación
+    private final NavigableSet<Long> ids = new ConcurrentSkipListSet<>();
+    private final NavigableSet<Long> completedIds = new ConcurrentSkipListSet<>();
+    private final NavigableSet<Long> pendingIds = new ConcurrentSkipListSet<>();
+    private final NavigableSet<IndexEntry> byCreatedAt = new ConcurrentSkipListSet<>(INDEX_ORDER);
+    private final NavigableSet<IndexEntry> byUpdatedAt = new ConcurrentSkipListSet<>(INDEX_ORDER);
+
+    private final Path snapshotPath;
+    private final int snapshotChunkSize;
+
+    @Autowired
+    public InMemoryTaskStore(@Value("${app.store.inmemory.stripes:16}") int stripes,
+                             @Value("${app.store.inmemory.snapshot-path:}") String snapshotPath) {
+        this(stripes, snapshotPath, DEFAULT_SNAPSHOT_CHUNK_SIZE);
+    }
+
+    InMemoryTaskStore(int stripes, String snapshotPath, int snapshotChunkSize) {
+        this.tasks = new LongTaskMap(stripes);
+        this.snapshotPath = StringUtils.hasText(snapshotPath) ? Path.of(snapshotPath) : null;
+        this.snapshotChunkSize = snapshotChunkSize;
+    }
+
+    @Override
+    public List<Task> findAll() {
+        return collect(ids.iterator(), null);
+    }
+
+    @Override
+    public Page<Task> findAll(Pageable pageable) {
+        return page(null, pageable);
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return Optional.ofNullable(tasks.get(id)).map(InMemoryTaskStore::copy);
+    }
+
+    @Override
+    public List<Task> findAllById(Iterable<Long> ids) {
+        List<Task> result = new ArrayList<>();
+        for (Long id : ids) {
+            Task task = tasks.get(id);
+            if (task != null) {
+                result.add(copy(task));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Task> findByCompleted(Boolean completed) {
+        return collect(statusIndex(completed).iterator(), Boolean.TRUE.equals(completed));
+    }
+
+    @Override
+    public Page<Task> findByCompleted(Boolean completed, Pageable pageable) {
+        return page(completed, pageable);
+    }
+
+    @Override
+    public Task save(Task task) {
+        // Se guarda una copia: quien llama puede seguir modificando su instancia sin romper los índices
+        Task stored = copy(task);
+        LocalDateTime now = LocalDateTime.now();
+        if (stored.getId() == null) {
+            stored.setId(sequence.incrementAndGet());
+        } else {
+            sequence.accumulateAndGet(stored.getId(), Math::max);
+        }
+        if (stored.getCompleted() == null) {
+            stored.setCompleted(false);
+        }
+        stored.setUpdatedAt(now);
+
+        Lock lock = tasks.lockFor(stored.getId()).writeLock();
+        lock.lock();
+        try {
+            Task previous = tasks.get(stored.getId());
+            if (previous != null) {
+                stored.setCreatedAt(previous.getCreatedAt());
+                reindex(previous, stored);
+            } else {
+                if (stored.getCreatedAt() == null) {
+                    stored.setCreatedAt(now);
+                }
+                tasks.put(stored.getId(), stored);
+                index(stored);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return copy(stored);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        Lock lock = tasks.lockFor(id).writeLock();
+        lock.lock();
+        try {
+            unindex(tasks.remove(id));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts every task with a new id, keeping the given timestamps like the JDBC insert of
+     * {@link JpaTaskStore#insertAll}; missing values default to now and createdAt.
+     */
+    @Override
+    public void insertAll(List<Task> newTasks) {
+        LocalDateTime now = LocalDateTime.now();
+        for (Task task : newTasks) {
+            Task stored = copy(task);
+            stored.setId(sequence.incrementAndGet());
+            stored.setCompleted(Boolean.TRUE.equals(stored.getCompleted()));
+            if (stored.getCreatedAt() == null) {
+                stored.setCreatedAt(now);
+            }
+            if (stored.getUpdatedAt() == null) {
+                stored.setUpdatedAt(stored.getCreatedAt());
+            }
+            Lock lock = tasks.lockFor(stored.getId()).writeLock();
+            lock.lock();
+            try {
+                tasks.put(stored.getId(), stored);
+                index(stored);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void forEachTask(Consumer<Task> action) {
+        for (Long id : ids) {
+            Task task = tasks.get(id);
+            if (task != null) {
+                action.accept(copy(task));
+            }
+        }
+    }
+
+    @Override
+    public long count() {
+        return totalCount.get();
+    }
+
+    @Override
+    public long countByCompleted(Boolean completed) {
+        return Boolean.TRUE.equals(completed) ? completedCount.get() : pendingCount.get();
+    }
+
+    @Override
+    public Map<LocalDate, Long> countCreatedPerDaySince(LocalDateTime since) {
+        Map<LocalDate, Long> result = new TreeMap<>();
+        for (IndexEntry entry : byCreatedAt.tailSet(new IndexEntry(since, Long.MIN_VALUE))) {
+            result.merge(entry.value().toLocalDate(), 1L, Long::sum);
+        }
+        return result;
+    }
+
+    private Page<Task> page(Boolean completed, Pageable pageable) {
+        long total = completed == null ? count() : countByCompleted(completed);
+        long skip = pageable.isPaged() ? pageable.getOffset() : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+
+        Iterator<Long> ordered = indexedOrder(completed, pageable.getSort());
+        if (ordered == null) {
+            // Orden por un campo sin índice: se ordena en memoria
+            List<Task> content = collect(statusIndexOrAll(completed).iterator(), completed).stream()
+                    .sorted(comparator(pageable.getSort()))
+                    .skip(skip)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+            return new PageImpl<>(content, pageable, total);
+        }
+
+        List<Task> content = new ArrayList<>();
+        while (ordered.hasNext() && content.size() < limit) {
+            Task task = tasks.get(ordered.next());
+            if (task == null || (completed != null && !completed.equals(task.getCompleted()))) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            content.add(copy(task));
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private Iterator<Long> indexedOrder(Boolean completed, Sort sort) {
+        if (sort.isUnsorted()) {
+            return statusIndexOrAll(completed).iterator();
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1) {
+            return null;
+        }
+        Sort.Order order = orders.get(0);
+        return switch (order.getProperty()) {
+            case "id" -> order.isAscending()
+                    ? statusIndexOrAll(completed).iterator()
+                    : statusIndexOrAll(completed).descendingIterator();
+            case "createdAt" -> idsOf(byCreatedAt, order, Task::getCreatedAt);
+            case "updatedAt" -> idsOf(byUpdatedAt, order, Task::getUpdatedAt);
+            default -> null;
+        };
+    }
+
+    private Iterator<Long> idsOf(NavigableSet<IndexEntry> index, Sort.Order order, Function<Task, LocalDateTime> field) {
+        NavigableSet<IndexEntry> view = order.isAscending() ? index : index.descendingSet();
+        // Mientras se actualiza, una tarea tiene dos entradas: vale la que coincide con la versión guardada
+        return view.stream()
+                .filter(entry -> {
+                    Task task = tasks.get(entry.id());
+                    return task != null && entry.value().equals(field.apply(task));
+                })
+                .map(IndexEntry::id)
+                .iterator();
+    }
+
+    private static Comparator<Task> comparator(Sort sort) {
+        Comparator<Task> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<Task> next = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(Task::getId);
+                case "title" -> Comparator.comparing(Task::getTitle, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "description" -> Comparator.comparing(Task::getDescription, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "completed" -> Comparator.comparing(Task::getCompleted);
+                case "createdAt" -> Comparator.comparing(Task::getCreatedAt);
+                case "updatedAt" -> Comparator.comparing(Task::getUpdatedAt);
+                default -> throw new IllegalArgumentException("Unknown sort property: " + order.getProperty());
+            };
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            result = result == null ? next : result.thenComparing(next);
+        }
+        return result == null ? Comparator.comparing(Task::getId) : result.thenComparing(Task::getId);
+    }
+
+    private NavigableSet<Long> statusIndexOrAll(Boolean completed) {
+        return completed == null ? ids : statusIndex(completed);
+    }
+
+    private NavigableSet<Long> statusIndex(Boolean completed) {
+        return Boolean.TRUE.equals(completed) ? completedIds : pendingIds;
+    }
+
+    /**
+     * @param completed if not null, skips tasks whose stored status differs (an update in progress can
+     *                  leave an id in both status indexes)
+     */
+    private List<Task> collect(Iterator<Long> idIterator, Boolean completed) {
+        List<Task> result = new ArrayList<>();
+        while (idIterator.hasNext()) {
+            Task task = tasks.get(idIterator.next());
+            if (task != null && (completed == null || completed.equals(task.getCompleted()))) {
+                result.add(copy(task));
+            }
+        }
+        return result;
+    }
+
+    // Llamados con el lock del stripe del id tomado
+    private void index(Task task) {
+        ids.add(task.getId());
+        statusIndex(task.getCompleted()).add(task.getId());
+        byCreatedAt.add(new IndexEntry(task.getCreatedAt(), task.getId()));
+        byUpdatedAt.add(new IndexEntry(task.getUpdatedAt(), task.getId()));
+        totalCount.incrementAndGet();
+        statusCount(task.getCompleted()).incrementAndGet();
+    }
+
+    /**
+     * Replaces {@code previous} with {@code task} (same id, same createdAt). Only the status and
+     * updatedAt entries are touched, and the new entries are added before the old ones are removed,
+     * so lock-free readers never miss the task; the id index and the total stay as they are.
+     */
+    private void reindex(Task previous, Task task) {
+        long id = task.getId();
+        boolean statusChanged = !previous.getCompleted().equals(task.getCompleted());
+        boolean updatedAtChanged = !previous.getUpdatedAt().equals(task.getUpdatedAt());
+        if (statusChanged) {
+            statusIndex(task.getCompleted()).add(id);
+        }
+        if (updatedAtChanged) {
+            byUpdatedAt.add(new IndexEntry(task.getUpdatedAt(), id));
+        }
+        tasks.put(id, task);
+        if (statusChanged) {
+            statusIndex(previous.getCompleted()).remove(id);
+            statusCount(task.getCompleted()).incrementAndGet();
+            statusCount(previous.getCompleted()).decrementAndGet();
+        }
+        if (updatedAtChanged) {
+            byUpdatedAt.remove(new IndexEntry(previous.getUpdatedAt(), id));
+        }
+    }
+
+    private void unindex(Task task) {
+        if (task == null) {
+            return;
+        }
+        ids.remove(task.getId());
+        statusIndex(task.getCompleted()).remove(task.getId());
+        byCreatedAt.remove(new IndexEntry(task.getCreatedAt(), task.getId()));
+        byUpdatedAt.remove(new IndexEntry(task.getUpdatedAt(), task.getId()));
+        totalCount.decrementAndGet();
+        statusCount(task.getCompleted()).decrementAndGet();
+    }
+
+    private AtomicLong statusCount(Boolean completed) {
+        return Boolean.TRUE.equals(completed) ? completedCount : pendingCount;
+    }
+
+    private static Task copy(Task task) {
+        return new Task(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getCompleted(),
+                task.getCreatedAt(),
+                task.getUpdatedAt()
+        );
+    }
+
+    // --- Snapshots ---
+
+    @PostConstruct
+    public void restoreSnapshot() throws IOException {
+        if (snapshotPath == null || !Files.exists(snapshotPath)) {
+            return;
+        }
+        int count;
+        try (FileChannel channel = FileChannel.open(snapshotPath, StandardOpenOption.READ)) {
+            MappedCursor in = new MappedCursor(channel, FileChannel.MapMode.READ_ONLY, channel.size(), snapshotChunkSize);
+            MappedByteBuffer header = in.ensure(SNAPSHOT_HEADER_SIZE);
+            if (header.getInt() != SNAPSHOT_MAGIC || header.getInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Unsupported task snapshot: " + snapshotPath);
+            }
+            long lastId = header.getLong();
+            count = header.getInt();
+            for (int i = 0; i < count; i++) {
+                long id = in.ensure(8).getLong();
+                String title = readString(in);
+                String description = readString(in);
+                MappedByteBuffer rest = in.ensure(1 + 12 + 12);
+                Task task = new Task(id, title, description, rest.get() == 1, readTimestamp(rest), readTimestamp(rest));
+                tasks.put(task.getId(), task);
+                index(task);
+            }
+            sequence.set(lastId);
+        }
+        log.info("Restored {} tasks from snapshot {}", count, snapshotPath);
+    }
+
+    @Scheduled(fixedDelayString = "${app.store.inmemory.snapshot-interval:PT1M}",
+            initialDelayString = "${app.store.inmemory.snapshot-interval:PT1M}")
+    public void scheduledSnapshot() {
+        if (snapshotPath == null) {
+            return;
+        }
+        try {
+            snapshot();
+        } catch (IOException ex) {
+            log.error("Could not write task snapshot to {}", snapshotPath, ex);
+        }
+    }
+
+    @PreDestroy
+    public void finalSnapshot() {
+        scheduledSnapshot();
+    }
+
+    /**
+     * Writes every task to a temporary memory-mapped file and atomically moves it over the previous
+     * snapshot. The file is mapped in windows of at most {@code snapshotChunkSize} bytes, so it can
+     * grow past the 2 GB limit of a single mapping. Writers are not blocked; each stripe is captured
+     * consistently.
+     */
+    public synchronized void snapshot() throws IOException {
+        // Las instancias guardadas nunca se modifican (save reemplaza), se pueden leer sin copiar
+        List<Task> current = new ArrayList<>();
+        tasks.forEach(current::add);
+        List<byte[]> strings = new ArrayList<>(current.size() * 2);
+        long size = SNAPSHOT_HEADER_SIZE;
+        for (Task task : current) {
+            byte[] title = encode(task.getTitle());
+            byte[] description = encode(task.getDescription());
+            strings.add(title);
+            strings.add(description);
+            size += recordSize(title, description);
+        }
+
+        Path tmp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedCursor out = new MappedCursor(channel, FileChannel.MapMode.READ_WRITE, size, snapshotChunkSize);
+            MappedByteBuffer header = out.ensure(SNAPSHOT_HEADER_SIZE);
+            header.putInt(SNAPSHOT_MAGIC);
+            header.putInt(SNAPSHOT_VERSION);
+            header.putLong(sequence.get());
+            header.putInt(current.size());
+            for (int i = 0; i < current.size(); i++) {
+                Task task = current.get(i);
+                byte[] title = strings.get(2 * i);
+                byte[] description = strings.get(2 * i + 1);
+                // Cada registro cabe entero en una ventana
+                MappedByteBuffer buffer = out.ensure(recordSize(title, description));
+                buffer.putLong(task.getId());
+                writeString(buffer, title);
+                writeString(buffer, description);
+                buffer.put((byte) (Boolean.TRUE.equals(task.getCompleted()) ? 1 : 0));
+                writeTimestamp(buffer, task.getCreatedAt());
+                writeTimestamp(buffer, task.getUpdatedAt());
+            }
+            out.force();
+        }
+        Files.move(tmp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("Wrote {} tasks to snapshot {}", current.size(), snapshotPath);
+    }
+
+    private static byte[] encode(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int recordSize(byte[] title, byte[] description) {
+        return 8 + stringSize(title) + stringSize(description) + 1 + 12 + 12;
+    }
+
+    private static int stringSize(byte[] value) {
+        return 4 + (value == null ? 0 : value.length);
+    }
+
+    private static void writeString(MappedByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putInt(-1);
+            return;
+        }
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String readString(MappedCursor in) throws IOException {
+        int length = in.ensure(4).getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.ensure(length).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeTimestamp(MappedByteBuffer buffer, LocalDateTime value) {
+        buffer.putLong(value.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(value.getNano());
+    }
+
+    private static LocalDateTime readTimestamp(MappedByteBuffer buffer) {
+        return LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC);
+    }
+
+    /**
+     * Sequential access to a file through consecutive mapped windows. {@link #ensure} remaps at the
+     * current position when fewer than the requested bytes are left in the window.
+     */
+    private static final class MappedCursor {
+
+        private final FileChannel channel;
+        private final FileChannel.MapMode mode;
+        private final long fileSize;
+        private final int windowSize;
+        private long windowStart;
+        private MappedByteBuffer window;
+
+        MappedCursor(FileChannel channel, FileChannel.MapMode mode, long fileSize, int windowSize) {
+            this.channel = channel;
+            this.mode = mode;
+            this.fileSize = fileSize;
+            this.windowSize = windowSize;
+        }
+
+        MappedByteBuffer ensure(int bytes) throws IOException {
+            if (window != null && window.remaining() >= bytes) {
+                return window;
+            }
+            long position = window == null ? 0 : windowStart + window.position();
+            long length = Math.min(Math.max(windowSize, bytes), fileSize - position);
+            if (length < bytes) {
+                throw new IOException("Truncated task snapshot at byte " + position);
+            }
+            force();
+            window = channel.map(mode, position, length);
+            windowStart = position;
+            return window;
+        }
+
+        void force() {
+            if (window != null && mode == FileChannel.MapMode.READ_WRITE) {
+                window.force();
+            }
+        }
+    }
+
+    private record IndexEntry(LocalDateTime value, long id) {
+    }
+}
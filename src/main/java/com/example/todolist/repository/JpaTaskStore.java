@@ -0,0 +1,128 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.model.Task;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Component
+@Profile("!inmemory")
+@RequiredArgsConstructor
+public class JpaTaskStore implements TaskStore {
+
+    private static final String INSERT_SQL =
+            "insert into tasks (title, description, completed, created_at, updated_at) values (?, ?, ?, ?, ?)";
+
+    private final TaskRepository taskRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Task> findAll() {
+        return taskRepository.findAll();
+    }
+
+    @Override
+    public Page<Task> findAll(Pageable pageable) {
+        return taskRepository.findAll(pageable);
+    }
+
+    @Override
+    public Optional<Task> findById(Long id) {
+        return taskRepository.findById(id);
+    }
+
+    @Override
+    public List<Task> findAllById(Iterable<Long> ids) {
+        return taskRepository.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Task> findCachedById(Long id) {
+        // findAllById es una query IN y no lee la región de entidades; find sí
+        if (!entityManager.getEntityManagerFactory().getCache().contains(Task.class, id)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entityManager.find(Task.class, id));
+    }
+
+    @Override
+    public List<Task> findByCompleted(Boolean completed) {
+        return taskRepository.findByCompleted(completed);
+    }
+
+    @Override
+    public Page<Task> findByCompleted(Boolean completed, Pageable pageable) {
+        return taskRepository.findByCompleted(completed, pageable);
+    }
+
+    @Override
+    public Task save(Task task) {
+        return taskRepository.save(task);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        taskRepository.deleteById(id);
+    }
+
+    /**
+     * JDBC batch insert: with IDENTITY ids Hibernate cannot batch inserts. Bypasses the second-level
+     * cache, so callers must evict cached queries afterwards.
+     */
+    @Override
+    public void insertAll(List<Task> tasks) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, tasks, tasks.size(), (ps, task) -> {
+            ps.setString(1, task.getTitle());
+            ps.setString(2, task.getDescription());
+            ps.setBoolean(3, Boolean.TRUE.equals(task.getCompleted()));
+            ps.setObject(4, task.getCreatedAt());
+            ps.setObject(5, task.getUpdatedAt());
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachTask(Consumer<Task> action) {
+        try (Stream<Task> tasks = taskRepository.streamAll()) {
+            tasks.forEach(task -> {
+                action.accept(task);
+                // Sin detach el persistence context crecería con cada fila leída
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    @Override
+    public long count() {
+        return taskRepository.count();
+    }
+
+    @Override
+    public long countByCompleted(Boolean completed) {
+        return taskRepository.countByCompleted(completed);
+    }
+
+    @Override
+    public Map<LocalDate, Long> countCreatedPerDaySince(LocalDateTime since) {
+        Map<LocalDate, Long> result = new TreeMap<>();
+        for (Object[] row : taskRepository.countCreatedPerDaySince(since)) {
+            result.put((LocalDate) row[0], ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+}
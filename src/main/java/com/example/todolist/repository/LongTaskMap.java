@@ -0,0 +1,199 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.model.Task;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Concurrent {@code long -> Task} map. Keys are hashed onto a fixed number of stripes, each an
+ * open-addressing table of primitive keys guarded by its own read/write lock, so lookups don't box
+ * the id and writers on different stripes don't contend. The map is unordered; ordering lives in the
+ * indexes of {@link InMemoryTaskStore}.
+ */
+final class LongTaskMap {
+
+    private static final float LOAD_FACTOR = 0.6f;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    LongTaskMap(int stripes) {
+        int count = 1;
+        while (count < stripes) {
+            count <<= 1;
+        }
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(INITIAL_SEGMENT_CAPACITY);
+        }
+        segmentMask = count - 1;
+    }
+
+    /**
+     * Lock of the stripe owning {@code key}, for callers that need several operations to be atomic.
+     * It is reentrant, so the map's own methods can be called while holding it.
+     */
+    ReadWriteLock lockFor(long key) {
+        return segmentFor(key).lock;
+    }
+
+    Task get(long key) {
+        Segment segment = segmentFor(key);
+        segment.lock.readLock().lock();
+        try {
+            return segment.get(key);
+        } finally {
+            segment.lock.readLock().unlock();
+        }
+    }
+
+    Task put(long key, Task value) {
+        Segment segment = segmentFor(key);
+        segment.lock.writeLock().lock();
+        try {
+            return segment.put(key, value);
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    Task remove(long key) {
+        Segment segment = segmentFor(key);
+        segment.lock.writeLock().lock();
+        try {
+            return segment.remove(key);
+        } finally {
+            segment.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Visits every value. Each stripe is consistent on its own, the whole map is not.
+     */
+    void forEach(Consumer<Task> action) {
+        for (Segment segment : segments) {
+            segment.lock.readLock().lock();
+            try {
+                for (Task value : segment.values) {
+                    if (value != null) {
+                        action.accept(value);
+                    }
+                }
+            } finally {
+                segment.lock.readLock().unlock();
+            }
+        }
+    }
+
+    private Segment segmentFor(long key) {
+        return segments[(int) (mix(key) >>> 40) & segmentMask];
+    }
+
+    private static long mix(long key) {
+        return key * 0x9E3779B97F4A7C15L;
+    }
+
+    private static final class Segment {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private long[] keys;
+        private Task[] values;
+        private int size;
+
+        Segment(int capacity) {
+            keys = new long[capacity];
+            values = new Task[capacity];
+        }
+
+        Task get(long key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    return values[i];
+                }
+            }
+            return null;
+        }
+
+        Task put(long key, Task value) {
+            if (size + 1 > keys.length * LOAD_FACTOR) {
+                resize();
+            }
+            int mask = keys.length - 1;
+            int i = slot(key, mask);
+            while (values[i] != null) {
+                if (keys[i] == key) {
+                    Task previous = values[i];
+                    values[i] = value;
+                    return previous;
+                }
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = value;
+            size++;
+            return null;
+        }
+
+        Task remove(long key) {
+            int mask = keys.length - 1;
+            for (int i = slot(key, mask); values[i] != null; i = (i + 1) & mask) {
+                if (keys[i] == key) {
+                    Task previous = values[i];
+                    closeGap(i, mask);
+                    size--;
+                    return previous;
+                }
+            }
+            return null;
+        }
+
+        // Borrado con backward shift: no deja tombstones en la tabla
+        private void closeGap(int hole, int mask) {
+            int i = hole;
+            while (true) {
+                i = (i + 1) & mask;
+                if (values[i] == null) {
+                    break;
+                }
+                int home = slot(keys[i], mask);
+                boolean movable = hole <= i
+                        ? (home <= hole || home > i)
+                        : (home <= hole && home > i);
+                if (movable) {
+                    keys[hole] = keys[i];
+                    values[hole] = values[i];
+                    hole = i;
+                }
+            }
+            keys[hole] = 0L;
+            values[hole] = null;
+        }
+
+        private void resize() {
+            long[] oldKeys = keys;
+            Task[] oldValues = values;
+            keys = new long[oldKeys.length << 1];
+            values = new Task[oldValues.length << 1];
+            int mask = keys.length - 1;
+            for (int j = 0; j < oldValues.length; j++) {
+                if (oldValues[j] != null) {
+                    int i = slot(oldKeys[j], mask);
+                    while (values[i] != null) {
+                        i = (i + 1) & mask;
+                    }
+                    keys[i] = oldKeys[j];
+                    values[i] = oldValues[j];
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+            long h = mix(key);
+            return (int) (h ^ (h >>> 29)) & mask;
+        }
+    }
+}
@@ -2,18 +2,57 @@ package com.example.todolist.repository;
 
 
 import com.example.todolist.model.Task;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    // findById usa directamente el cache de segundo nivel de la entidad
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Page<Task> findAll(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Task> findByCompleted(Boolean completed);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Page<Task> findByCompleted(Boolean completed, Pageable pageable);
 
     List<Task> findByTitleContainingIgnoreCase(String title);
+
+    long countByCompleted(Boolean completed);
+
+    // Cursor para exportar: fetch size acotado, sin dirty checking ni cache de queries, y sin
+    // volcar cada fila en la región "tasks" (desplazaría las tareas calientes)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("select t from Task t order by t.id")
+    Stream<Task> streamAll();
+
+    // Filas: [LocalDate dia, Long cantidad]
+    @Query("select cast(t.createdAt as LocalDate), count(t) from Task t "
+            + "where t.createdAt >= :since group by cast(t.createdAt as LocalDate)")
+    List<Object[]> countCreatedPerDaySince(@Param("since") LocalDateTime since);
+
+    // Usa el índice (completed, updated_at); el llamador limita el tamaño del lote con el Pageable
+    @Query("select t from Task t where t.completed = true and t.updatedAt < :cutoff order by t.updatedAt")
+    List<Task> findCompletedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
@@ -0,0 +1,59 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.model.Task;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Storage engine behind {@code TaskService}. The JPA implementation is the default; the
+ * {@code inmemory} profile switches to {@link InMemoryTaskStore}.
+ */
+public interface TaskStore {
+
+    List<Task> findAll();
+
+    Page<Task> findAll(Pageable pageable);
+
+    Optional<Task> findById(Long id);
+
+    List<Task> findAllById(Iterable<Long> ids);
+
+    /**
+     * Returns the task only if it can be served from a cache without querying the database;
+     * empty means "not cached", not "does not exist".
+     */
+    default Optional<Task> findCachedById(Long id) {
+        return Optional.empty();
+    }
+
+    List<Task> findByCompleted(Boolean completed);
+
+    Page<Task> findByCompleted(Boolean completed, Pageable pageable);
+
+    Task save(Task task);
+
+    void deleteById(Long id);
+
+    /**
+     * Inserts new tasks in one batch. Timestamps must already be set; ids are not returned.
+     */
+    void insertAll(List<Task> tasks);
+
+    /**
+     * Visits every task in id order without loading them all at once.
+     */
+    void forEachTask(Consumer<Task> action);
+
+    long count();
+
+    long countByCompleted(Boolean completed);
+
+    Map<LocalDate, Long> countCreatedPerDaySince(LocalDateTime since);
+}
@@ -0,0 +1,135 @@
+package com.example.todolist.service;
+
+import com.example.todolist.exception.IdempotencyKeyConflictException;
+import com.example.todolist.exception.InvalidIdempotencyKeyException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of non-idempotent operations by {@code Idempotency-Key}, so a client retry
+ * gets the original response instead of running the operation again. Concurrent retries of an
+ * in-flight request wait for its result. Failed executions are forgotten, so they can be retried.
+ * Completed entries expire after {@code app.idempotency.ttl} and at most
+ * {@code app.idempotency.max-entries} are kept; in-flight entries are never expired or evicted.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> entries;
+
+    @Autowired
+    public IdempotencyStore(@Value("${app.idempotency.ttl:PT24H}") Duration ttl,
+                            @Value("${app.idempotency.max-entries:10000}") int maxEntries) {
+        this(ttl, maxEntries, Ticker.systemTicker());
+    }
+
+    IdempotencyStore(Duration ttl, int maxEntries, Ticker ticker) {
+        long ttlNanos = ttl.toNanos();
+        this.entries = Caffeine.newBuilder()
+                // Peso 0 mientras está en curso: solo las entradas completadas cuentan para el límite
+                .maximumWeight(maxEntries)
+                .weigher((String id, Entry entry) -> entry.result.isDone() ? 1 : 0)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String id, Entry entry, long currentTime) {
+                        return entry.result.isDone() ? ttlNanos : Long.MAX_VALUE;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String id, Entry entry, long currentTime, long currentDuration) {
+                        return entry.result.isDone() ? ttlNanos : Long.MAX_VALUE;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String id, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * Runs {@code action} once per {@code scope} and {@code key}. Without a key the action always runs.
+     *
+     * @param fingerprint identifies the request payload; reusing a key with a different one is rejected
+     * @throws InvalidIdempotencyKeyException if the key is blank or too long
+     * @throws IdempotencyKeyConflictException if the key was used with a different fingerprint
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String scope, String key, Object fingerprint, Supplier<T> action) {
+        if (key == null) {
+            return action.get();
+        }
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String id = scope + ':' + key;
+        ConcurrentMap<String, Entry> map = entries.asMap();
+        Entry mine = new Entry(fingerprint);
+        Entry existing = map.putIfAbsent(id, mine);
+        if (existing != null) {
+            if (!Objects.equals(existing.fingerprint, fingerprint)) {
+                throw new IdempotencyKeyConflictException(key);
+            }
+            return (T) await(existing.result);
+        }
+
+        try {
+            T value = action.get();
+            mine.result.complete(value);
+            // Reemplazar la entrada por sí misma recalcula su peso y arranca el TTL
+            map.replace(id, mine, mine);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            map.remove(id, mine);
+            mine.result.completeExceptionally(ex);
+            throw ex;
+        }
+    }
+
+    long size() {
+        entries.cleanUp();
+        return entries.estimatedSize();
+    }
+
+    private static Object await(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            // Los reintentos concurrentes ven el mismo error que la ejecución original
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private static final class Entry {
+        private final Object fingerprint;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(Object fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.todolist.service;
+
+import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.exception.TaskNotFoundException;
+import com.example.todolist.model.ArchivedTask;
+import com.example.todolist.model.Task;
+import com.example.todolist.repository.ArchivedTaskRepository;
+import com.example.todolist.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Moves completed tasks older than {@code app.archive.max-age} from {@code tasks} to {@code archived_tasks}.
+ * Each batch runs in its own short transaction so row locks are never held for the whole run.
+ * The scheduled run is off unless {@code app.archive.enabled=true}.
+ */
+@Slf4j
+@Service
+@Profile("!inmemory")
+public class TaskArchiveService {
+
+    private static final String DELETE_ARCHIVABLE_SQL =
+            "delete from tasks where id = ? and completed = true and updated_at < ?";
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskStatistics taskStatistics;
+    private final TaskCacheService taskCacheService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    public TaskArchiveService(TaskRepository taskRepository,
+                              ArchivedTaskRepository archivedTaskRepository,
+                              TaskStatistics taskStatistics,
+                              TaskCacheService taskCacheService,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${app.archive.enabled:false}") boolean enabled,
+                              @Value("${app.archive.max-age:P30D}") Duration maxAge,
+                              @Value("${app.archive.batch-size:500}") int batchSize,
+                              @Value("${app.archive.max-batches-per-run:100}") int maxBatchesPerRun) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskStatistics = taskStatistics;
+        this.taskCacheService = taskCacheService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT10M}", initialDelayString = "${app.archive.interval:PT10M}")
+    public void archiveCompletedTasks() {
+        if (enabled) {
+            archiveCompletedBefore(LocalDateTime.now().minus(maxAge));
+        }
+    }
+
+    /**
+     * @return number of tasks archived
+     */
+    public int archiveCompletedBefore(LocalDateTime cutoff) {
+        int archived = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            BatchResult result = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (result == null || result.selected() == 0) {
+                break;
+            }
+            if (!result.archivedIds().isEmpty()) {
+                // Tras el commit: evictar antes permitiría que una lectura concurrente recachee la fila
+                taskCacheService.evict(result.archivedIds());
+                archived += result.archivedIds().size();
+                taskStatistics.onArchived(result.archivedIds().size());
+            }
+            if (result.selected() < batchSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} completed tasks last updated before {}", archived, cutoff);
+        }
+        return archived;
+    }
+
+    private BatchResult archiveBatch(LocalDateTime cutoff) {
+        List<Task> batch = taskRepository.findCompletedBefore(cutoff, PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return new BatchResult(0, List.of());
+        }
+
+        // El delete repite el predicado: una tarea modificada tras el select (toggle, update) ya no
+        // cumple updatedAt < cutoff y se queda en tasks. Solo se archivan las filas borradas de verdad.
+        int[] deleted = jdbcTemplate.batchUpdate(DELETE_ARCHIVABLE_SQL, batch, batch.size(), (ps, task) -> {
+            ps.setLong(1, task.getId());
+            ps.setObject(2, cutoff);
+        })[0];
+        List<Task> removed = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            if (deleted[i] == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("JDBC driver does not report per-row delete counts");
+            }
+            if (deleted[i] == 1) {
+                removed.add(batch.get(i));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        archivedTaskRepository.saveAll(removed.stream()
+                .map(task -> ArchivedTask.from(task, now))
+                .collect(Collectors.toList()));
+        return new BatchResult(batch.size(), removed.stream().map(Task::getId).collect(Collectors.toList()));
+    }
+
+    // selected: filas leídas en el lote; archivedIds: las que se borraron y archivaron
+    private record BatchResult(int selected, List<Long> archivedIds) {
+    }
+
+    @Transactional(readOnly = true)
+    public TaskResponseDTO getArchivedTaskById(Long id) {
+        ArchivedTask task = archivedTaskRepository.findById(id)
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        return new TaskResponseDTO(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getCompleted(),
+                task.getCreatedAt(),
+                task.getUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.todolist.service;
+
+import com.example.todolist.dto.CacheStatsDTO;
+import com.example.todolist.model.Task;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+
+@Service
+@RequiredArgsConstructor
+public class TaskCacheService {
+
+    private static final String TASK_REGION = "tasks";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatsDTO getStatistics() {
+        Statistics statistics = sessionFactory().getStatistics();
+        CacheRegionStatistics taskRegion = statistics.getDomainDataRegionStatistics(TASK_REGION);
+
+        return new CacheStatsDTO(
+                statistics.isStatisticsEnabled(),
+                taskRegion.getHitCount(),
+                taskRegion.getMissCount(),
+                taskRegion.getPutCount(),
+                statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getPrepareStatementCount()
+        );
+    }
+
+    /**
+     * Drops cached tasks and cached query results. JPQL {@code @Modifying} statements already
+     * invalidate both through Hibernate; this is for writes that bypass it (native SQL, JDBC).
+     */
+    public void evictAll() {
+        Cache cache = sessionFactory().getCache();
+        cache.evictEntityData(Task.class);
+        cache.evictQueryRegions();
+    }
+
+    /**
+     * Invalidates cached query results only; cached entities stay valid after plain inserts.
+     */
+    public void evictQueries() {
+        sessionFactory().getCache().evictQueryRegions();
+    }
+
+    /**
+     * Drops the given tasks and cached query results after they were deleted outside Hibernate.
+     */
+    public void evict(Collection<Long> ids) {
+        Cache cache = sessionFactory().getCache();
+        ids.forEach(id -> cache.evictEntityData(Task.class, id));
+        cache.evictQueryRegions();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
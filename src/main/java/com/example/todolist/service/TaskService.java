@@ -2,28 +2,35 @@ package com.example.todolist.service;
 
 import com.example.todolist.dto.TaskCreateDTO;
 import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.dto.TaskStatsDTO;
 import com.example.todolist.exception.ResourceNotFoundException;
 import com.example.todolist.exception.TaskNotFoundException;
 import com.example.todolist.model.Task;
-import com.example.todolist.repository.TaskRepository;
+import com.example.todolist.repository.TaskStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
-    private final TaskRepository taskRepository;
+    private final TaskStore taskStore;
+    private final TaskStatistics taskStatistics;
 
     @Transactional(readOnly = true)
     public List<TaskResponseDTO> getAllTasks() {
-        return taskRepository.findAll()
+        return taskStore.findAll()
                 .stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -31,17 +38,31 @@ public class TaskService {
 
     @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getAllTasks(Pageable pageable) {
-        return taskRepository.findAll(pageable)
+        return taskStore.findAll(pageable)
                 .map(this::convertToDTO);
     }
 
     @Transactional(readOnly = true)
     public TaskResponseDTO getTaskById(Long id) {
-        Task task = taskRepository.findById(id)
+        Task task = taskStore.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
         return convertToDTO(task);
     }
 
+    @Transactional(readOnly = true)
+    public List<TaskResponseDTO> getTasksByIds(List<Long> ids) {
+        // Un solo IN query; se respeta el orden pedido y se omiten los ids inexistentes
+        Set<Long> uniqueIds = new LinkedHashSet<>(ids);
+        Map<Long, Task> found = taskStore.findAllById(uniqueIds)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return uniqueIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .map(this::convertToDTO)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public TaskResponseDTO createTask(TaskCreateDTO createDTO) {
         Task task = new Task();
@@ -49,43 +70,46 @@ public class TaskService {
         task.setDescription(createDTO.getDescription());
         task.setCompleted(false);
 
-        Task savedTask = taskRepository.save(task);
+        Task savedTask = taskStore.save(task);
+        taskStatistics.onCreated(savedTask);
         return convertToDTO(savedTask);
     }
 
     @Transactional
     public TaskResponseDTO updateTask(Long id, TaskCreateDTO updateDTO) {
-        Task task = taskRepository.findById(id)
+        Task task = taskStore.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
         task.setTitle(updateDTO.getTitle());
         task.setDescription(updateDTO.getDescription());
 
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskStore.save(task);
         return convertToDTO(updatedTask);
     }
 
     @Transactional
     public TaskResponseDTO toggleTaskCompletion(Long id) {
-        Task task = taskRepository.findById(id)
+        Task task = taskStore.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
 
         task.setCompleted(!task.getCompleted());
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskStore.save(task);
+        taskStatistics.onCompletionChanged(updatedTask.getCompleted());
         return convertToDTO(updatedTask);
     }
 
     @Transactional
     public void deleteTask(Long id) {
-        if (!taskRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Task not found with id: " + id);
-        }
-        taskRepository.deleteById(id);
+        // Se carga la tarea para saber si descontar una completada
+        Task task = taskStore.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Task not found with id: " + id));
+        taskStore.deleteById(id);
+        taskStatistics.onDeleted(task);
     }
 
     @Transactional(readOnly = true)
     public List<TaskResponseDTO> getTasksByStatus(Boolean completed) {
-        return taskRepository.findByCompleted(completed)
+        return taskStore.findByCompleted(completed)
                 .stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
@@ -93,10 +117,14 @@ public class TaskService {
 
     @Transactional(readOnly = true)
     public Page<TaskResponseDTO> getTasksByStatus(Boolean completed, Pageable pageable) {
-        return taskRepository.findByCompleted(completed, pageable)
+        return taskStore.findByCompleted(completed, pageable)
                 .map(this::convertToDTO);
     }
 
+    public TaskStatsDTO getStatistics() {
+        return taskStatistics.snapshot();
+    }
+
     private TaskResponseDTO convertToDTO(Task task) {
         return new TaskResponseDTO(
                 task.getId(),
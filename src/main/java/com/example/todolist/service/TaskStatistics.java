@@ -0,0 +1,141 @@
+package com.example.todolist.service;
+
+import com.example.todolist.dto.TaskStatsDTO;
+import com.example.todolist.model.Task;
+import com.example.todolist.repository.TaskStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Task counters maintained incrementally by {@link TaskService}, so aggregate reads never touch the
+ * tasks table. Updates made inside a transaction are applied only after it commits. A periodic
+ * reconciliation against count queries corrects drift from writes that bypass the service.
+ */
+@Slf4j
+@Component
+public class TaskStatistics {
+
+    private final TaskStore taskStore;
+    private final int retentionDays;
+
+    private final LongAdder total = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final Map<LocalDate, LongAdder> createdPerDay = new ConcurrentHashMap<>();
+    private volatile LocalDateTime reconciledAt;
+
+    public TaskStatistics(TaskStore taskStore,
+                          @Value("${app.stats.retention-days:30}") int retentionDays) {
+        this.taskStore = taskStore;
+        this.retentionDays = retentionDays;
+    }
+
+    public void onCreated(Task task) {
+        boolean isCompleted = Boolean.TRUE.equals(task.getCompleted());
+        LocalDate day = task.getCreatedAt() != null ? task.getCreatedAt().toLocalDate() : LocalDate.now();
+        afterCommit(() -> {
+            total.increment();
+            if (isCompleted) {
+                completed.increment();
+            }
+            createdPerDay.computeIfAbsent(day, d -> new LongAdder()).increment();
+        });
+    }
+
+    public void onCompletionChanged(boolean nowCompleted) {
+        afterCommit(() -> {
+            if (nowCompleted) {
+                completed.increment();
+            } else {
+                completed.decrement();
+            }
+        });
+    }
+
+    public void onDeleted(Task task) {
+        boolean wasCompleted = Boolean.TRUE.equals(task.getCompleted());
+        afterCommit(() -> {
+            total.decrement();
+            if (wasCompleted) {
+                completed.decrement();
+            }
+        });
+    }
+
+    /**
+     * Archived tasks leave the tasks table; they were all completed.
+     */
+    public void onArchived(int count) {
+        afterCommit(() -> {
+            total.add(-count);
+            completed.add(-count);
+        });
+    }
+
+    public TaskStatsDTO snapshot() {
+        long totalCount = total.sum();
+        long completedCount = completed.sum();
+        LocalDate firstDay = firstRetainedDay();
+
+        Map<LocalDate, Long> histogram = new TreeMap<>();
+        createdPerDay.forEach((day, count) -> {
+            if (!day.isBefore(firstDay)) {
+                histogram.put(day, count.sum());
+            }
+        });
+        return new TaskStatsDTO(totalCount, completedCount, totalCount - completedCount, histogram, reconciledAt);
+    }
+
+    /**
+     * Replaces the counters with the values from the store. Not atomic with concurrent updates:
+     * a write racing with it may be counted twice or not at all until the next run.
+     */
+    @Scheduled(fixedDelayString = "${app.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        long totalCount = taskStore.count();
+        long completedCount = taskStore.countByCompleted(true);
+        LocalDate firstDay = firstRetainedDay();
+        Map<LocalDate, Long> perDay = taskStore.countCreatedPerDaySince(firstDay.atStartOfDay());
+
+        reset(total, totalCount);
+        reset(completed, completedCount);
+        createdPerDay.keySet().removeIf(day -> day.isBefore(firstDay) || !perDay.containsKey(day));
+        perDay.forEach((day, count) -> reset(createdPerDay.computeIfAbsent(day, d -> new LongAdder()), count));
+
+        reconciledAt = LocalDateTime.now();
+        log.debug("Task statistics reconciled: total={}, completed={}", totalCount, completedCount);
+    }
+
+    // Dentro de una transacción el contador cambia solo si confirma; un rollback no deja deriva
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private LocalDate firstRetainedDay() {
+        return LocalDate.now().minusDays(retentionDays - 1L);
+    }
+
+    private static void reset(LongAdder adder, long value) {
+        adder.reset();
+        adder.add(value);
+    }
+}
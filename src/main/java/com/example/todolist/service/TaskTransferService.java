@@ -0,0 +1,477 @@
+package com.example.todolist.service;
+
+import com.example.todolist.dto.ImportResultDTO;
+import com.example.todolist.dto.TaskImportDTO;
+import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.exception.UnsupportedFormatException;
+import com.example.todolist.model.Task;
+import com.example.todolist.repository.TaskStore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streaming bulk import/export of tasks in NDJSON or CSV. Import reads line by line, validates every
+ * record against the {@link TaskImportDTO} constraints and inserts in batches of
+ * {@code app.transfer.batch-size}, so memory stays bounded regardless of the body size. Lines longer than
+ * {@code app.transfer.max-line-length} characters are rejected without being buffered.
+ * <p>
+ * Import restores {@code completed}, {@code createdAt} and {@code updatedAt} when present, so an
+ * export can be re-imported as is. Ids are not kept: every imported task gets a new one.
+ */
+@Slf4j
+@Service
+public class TaskTransferService {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+    public static final String CSV_VALUE = "text/csv";
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final long PROGRESS_INTERVAL = 100_000;
+    private static final String CSV_HEADER = "id,title,description,completed,createdAt,updatedAt";
+
+    public enum Format {
+        NDJSON(NDJSON_VALUE, "ndjson"),
+        CSV(CSV_VALUE, "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = MediaType.parseMediaType(mediaType);
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromMediaType(MediaType mediaType) {
+            for (Format format : values()) {
+                if (format.mediaType.isCompatibleWith(mediaType)) {
+                    return format;
+                }
+            }
+            throw new UnsupportedFormatException("Unsupported format: " + mediaType);
+        }
+
+        public static Format fromName(String name) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(name)) {
+                    return format;
+                }
+            }
+            throw new UnsupportedFormatException("Unsupported format: " + name + " (expected ndjson or csv)");
+        }
+    }
+
+    private final TaskStore taskStore;
+    private final TaskStatistics taskStatistics;
+    private final TaskCacheService taskCacheService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxLineLength;
+
+    public TaskTransferService(TaskStore taskStore,
+                               TaskStatistics taskStatistics,
+                               TaskCacheService taskCacheService,
+                               Validator validator,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.transfer.batch-size:1000}") int batchSize,
+                               @Value("${app.transfer.max-line-length:16384}") int maxLineLength) {
+        this.taskStore = taskStore;
+        this.taskStatistics = taskStatistics;
+        this.taskCacheService = taskCacheService;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    public ImportResultDTO importTasks(InputStream input, Format format) throws IOException {
+        ImportProgress progress = new ImportProgress();
+        LineReader reader = new LineReader(new InputStreamReader(input, StandardCharsets.UTF_8), maxLineLength);
+        long lineNumber = 0;
+
+        CsvColumns columns = null;
+        if (format == Format.CSV) {
+            String header = reader.readLine();
+            lineNumber++;
+            columns = header == null || reader.isTruncated() ? null : csvColumns(parseCsvLine(header));
+            if (columns == null) {
+                progress.fail(lineNumber, "CSV header must contain a 'title' column");
+                return progress.toResult();
+            }
+        }
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            progress.processed++;
+            if (reader.isTruncated()) {
+                progress.fail(lineNumber, "Line exceeds " + maxLineLength + " characters");
+                continue;
+            }
+
+            TaskImportDTO dto;
+            try {
+                dto = format == Format.NDJSON
+                        ? objectMapper.readValue(line, TaskImportDTO.class)
+                        : fromCsv(parseCsvLine(line), columns);
+            } catch (JsonProcessingException | IllegalArgumentException ex) {
+                progress.fail(lineNumber, "Malformed record: " + ex.getMessage());
+                continue;
+            }
+            if (dto == null) {
+                // Una línea NDJSON "null" se parsea sin error
+                progress.fail(lineNumber, "Malformed record: expected an object");
+                continue;
+            }
+
+            Set<ConstraintViolation<TaskImportDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                progress.fail(lineNumber, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                continue;
+            }
+
+            progress.add(toTask(dto), lineNumber);
+            if (progress.batch.size() >= batchSize) {
+                flush(progress);
+            }
+            if (progress.processed % PROGRESS_INTERVAL == 0) {
+                log.info("Import progress: {} rows processed, {} imported, {} failed",
+                        progress.processed, progress.imported, progress.failed);
+            }
+        }
+        flush(progress);
+
+        if (progress.imported > 0) {
+            // Los inserts JDBC no pasan por Hibernate
+            taskCacheService.evictQueries();
+        }
+        log.info("Import finished: {} rows processed, {} imported, {} failed",
+                progress.processed, progress.imported, progress.failed);
+        return progress.toResult();
+    }
+
+    private void flush(ImportProgress progress) {
+        if (progress.batch.isEmpty()) {
+            return;
+        }
+        List<Task> batch = List.copyOf(progress.batch);
+        try {
+            transactionTemplate.executeWithoutResult(status -> taskStore.insertAll(batch));
+            batch.forEach(taskStatistics::onCreated);
+            progress.imported += batch.size();
+        } catch (DataAccessException ex) {
+            String message = "Batch insert failed: " + ex.getMostSpecificCause().getMessage();
+            progress.batchLines.forEach(line -> progress.fail(line, message));
+        }
+        progress.batch.clear();
+        progress.batchLines.clear();
+    }
+
+    /**
+     * Writes every task to {@code output}. A row that cannot be serialized is skipped and logged;
+     * an I/O error (client gone) aborts the export.
+     *
+     * @return number of tasks written
+     */
+    public long exportTasks(Format format, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        long[] written = {0};
+        long[] failed = {0};
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        try {
+            taskStore.forEachTask(task -> {
+                try {
+                    writer.write(format == Format.NDJSON ? objectMapper.writeValueAsString(toDTO(task)) : toCsv(task));
+                    writer.write('\n');
+                    written[0]++;
+                } catch (JsonProcessingException ex) {
+                    failed[0]++;
+                    log.warn("Export skipped task {}: {}", task.getId(), ex.getOriginalMessage());
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                if (written[0] % PROGRESS_INTERVAL == 0 && written[0] > 0) {
+                    log.info("Export progress: {} tasks written", written[0]);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+        writer.flush();
+
+        log.info("Export finished: {} tasks written, {} skipped", written[0], failed[0]);
+        return written[0];
+    }
+
+    private static Task toTask(TaskImportDTO dto) {
+        LocalDateTime createdAt = dto.getCreatedAt() != null ? dto.getCreatedAt() : LocalDateTime.now();
+        Task task = new Task();
+        task.setTitle(dto.getTitle());
+        task.setDescription(dto.getDescription());
+        task.setCompleted(Boolean.TRUE.equals(dto.getCompleted()));
+        task.setCreatedAt(createdAt);
+        task.setUpdatedAt(dto.getUpdatedAt() != null ? dto.getUpdatedAt() : createdAt);
+        return task;
+    }
+
+    private static TaskResponseDTO toDTO(Task task) {
+        return new TaskResponseDTO(
+                task.getId(),
+                task.getTitle(),
+                task.getDescription(),
+                task.getCompleted(),
+                task.getCreatedAt(),
+                task.getUpdatedAt()
+        );
+    }
+
+    // --- CSV ---
+
+    // Posición de cada columna en el header, -1 si no está
+    private record CsvColumns(int title, int description, int completed, int createdAt, int updatedAt) {
+    }
+
+    /**
+     * @return positions of the known columns, or null if there is no title. Other columns, id included, are ignored.
+     */
+    private static CsvColumns csvColumns(List<String> header) {
+        List<String> names = header.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+        int title = names.indexOf("title");
+        if (title < 0) {
+            return null;
+        }
+        return new CsvColumns(title, names.indexOf("description"), names.indexOf("completed"),
+                names.indexOf("createdat"), names.indexOf("updatedat"));
+    }
+
+    private static TaskImportDTO fromCsv(List<String> fields, CsvColumns columns) {
+        if (fields.size() <= columns.title()) {
+            throw new IllegalArgumentException("missing title column");
+        }
+        TaskImportDTO dto = new TaskImportDTO();
+        dto.setTitle(fields.get(columns.title()));
+        dto.setDescription(csvValue(fields, columns.description()));
+        String completed = csvValue(fields, columns.completed());
+        if (completed != null) {
+            if (!completed.equalsIgnoreCase("true") && !completed.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException("completed must be true or false");
+            }
+            dto.setCompleted(Boolean.parseBoolean(completed));
+        }
+        dto.setCreatedAt(csvDateTime(fields, columns.createdAt(), "createdAt"));
+        dto.setUpdatedAt(csvDateTime(fields, columns.updatedAt(), "updatedAt"));
+        return dto;
+    }
+
+    // null si la columna no existe o está vacía
+    private static String csvValue(List<String> fields, int column) {
+        return column >= 0 && column < fields.size() && !fields.get(column).isEmpty() ? fields.get(column) : null;
+    }
+
+    private static LocalDateTime csvDateTime(List<String> fields, int column, String name) {
+        String value = csvValue(fields, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException(name + " is not an ISO-8601 date-time: " + value);
+        }
+    }
+
+    // RFC 4180 sin campos multilínea: cada registro ocupa una línea
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static String toCsv(Task task) {
+        return String.join(",",
+                String.valueOf(task.getId()),
+                csvField(task.getTitle()),
+                csvField(task.getDescription()),
+                String.valueOf(task.getCompleted()),
+                task.getCreatedAt() == null ? "" : task.getCreatedAt().toString(),
+                task.getUpdatedAt() == null ? "" : task.getUpdatedAt().toString());
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Line reader that keeps at most {@code maxLength} characters of each line; the rest is skipped
+     * and the line is flagged as truncated. Accepts {@code \n} and {@code \r\n} terminators.
+     */
+    static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int limit;
+        private boolean truncated;
+
+        LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * @return the next line without its terminator, or null at the end of the input
+         */
+        String readLine() throws IOException {
+            StringBuilder line = new StringBuilder();
+            truncated = false;
+            boolean read = false;
+            while (true) {
+                if (position == limit) {
+                    limit = Math.max(reader.read(buffer, 0, buffer.length), 0);
+                    position = 0;
+                    if (limit == 0) {
+                        return read ? finish(line) : null;
+                    }
+                }
+                read = true;
+                int start = position;
+                while (position < limit && buffer[position] != '\n') {
+                    position++;
+                }
+                // Un carácter de más para no marcar como truncada una línea que termina en \r
+                int count = Math.min(position - start, maxLength + 1 - line.length());
+                line.append(buffer, start, count);
+                truncated |= count < position - start;
+                if (position < limit) {
+                    position++;
+                    return finish(line);
+                }
+            }
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        private String finish(StringBuilder line) {
+            if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            if (line.length() > maxLength) {
+                truncated = true;
+                line.setLength(maxLength);
+            }
+            return line.toString();
+        }
+    }
+
+    private static final class ImportProgress {
+        private long processed;
+        private long imported;
+        private long failed;
+        private final List<ImportResultDTO.RowError> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+        private final List<Task> batch = new ArrayList<>();
+        private final List<Long> batchLines = new ArrayList<>();
+
+        void add(Task task, long line) {
+            batch.add(task);
+            batchLines.add(line);
+        }
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportResultDTO.RowError(line, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        ImportResultDTO toResult() {
+            return new ImportResultDTO(processed, imported, failed, errors, errorsTruncated);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.todolist.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofMinutes(1));
+
+    @Test
+    void readAfterWrite_SameClientId_IsPinned() throws Exception {
+        filter.doFilter(request("POST", "10.0.0.1", "client-a", null), new MockHttpServletResponse(), (req, res) -> { });
+
+        assertTrue(pinnedDuring(request("GET", "10.0.0.1", "client-a", null)));
+    }
+
+    @Test
+    void readAfterWrite_OtherClientBehindSameAddress_IsNotPinned() throws Exception {
+        filter.doFilter(request("POST", "10.0.0.1", null, null), new MockHttpServletResponse(), (req, res) -> { });
+
+        assertFalse(pinnedDuring(request("GET", "10.0.0.1", null, null)));
+        assertFalse(pinnedDuring(request("GET", "10.0.0.1", "client-b", null)));
+    }
+
+    @Test
+    void writeWithoutClientId_IssuesCookieThatPinsLaterReads() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request("PATCH", "10.0.0.1", null, null), response, (req, res) -> { });
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.CLIENT_ID_COOKIE);
+
+        assertNotNull(cookie);
+        assertTrue(pinnedDuring(request("GET", "10.0.0.1", null, cookie)));
+    }
+
+    @Test
+    void lookup_IsNotTreatedAsWrite() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletRequest lookup = request("POST", "10.0.0.1", "client-a", null);
+        lookup.setRequestURI("/api/tasks/lookup");
+
+        filter.doFilter(lookup, response, (req, res) -> { });
+
+        assertNull(response.getCookie(ReadYourWritesFilter.CLIENT_ID_COOKIE));
+        assertFalse(pinnedDuring(request("GET", "10.0.0.1", "client-a", null)));
+    }
+
+    private boolean pinnedDuring(MockHttpServletRequest request) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> pinned.set(ReadYourWritesContext.isPinnedToPrimary()));
+        return pinned.get();
+    }
+
+    private static MockHttpServletRequest request(String method, String remoteAddr, String clientId, Cookie cookie) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/tasks");
+        request.setRemoteAddr(remoteAddr);
+        if (clientId != null) {
+            request.addHeader(ReadYourWritesFilter.CLIENT_ID_HEADER, clientId);
+        }
+        if (cookie != null) {
+            request.setCookies(cookie);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.todolist.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:routing-primary";
+    private static final String REPLICA_URL = "jdbc:h2:mem:routing-replica";
+
+    private DriverManagerDataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private DataSource dataSource;
+    private ReplicaRoutingProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        replica = new DriverManagerDataSource(REPLICA_URL + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(replica).execute("CREATE TABLE IF NOT EXISTS tasks (id BIGINT PRIMARY KEY)");
+        routingDataSource = new ReplicaRoutingDataSource(
+                new DriverManagerDataSource(PRIMARY_URL + ";DB_CLOSE_DELAY=-1", "sa", ""),
+                Map.of("replica-0", replica));
+        routingDataSource.afterPropertiesSet();
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        properties = new ReplicaRoutingProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void writeTransaction_GoesToPrimary() throws SQLException {
+        routingDataSource.setHealthy("replica-0", true);
+
+        assertTrue(connectedUrl().startsWith(PRIMARY_URL));
+    }
+
+    @Test
+    void readOnlyTransaction_HealthyReplica_GoesToReplica() throws SQLException {
+        new ReplicaHealthChecker(routingDataSource, properties).checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertTrue(routingDataSource.isHealthy("replica-0"));
+        assertTrue(connectedUrl().startsWith(REPLICA_URL));
+    }
+
+    @Test
+    void healthCheck_ReplicaWithoutSchema_IsTakenOutOfRotation() {
+        new JdbcTemplate(replica).execute("DROP TABLE tasks");
+
+        new ReplicaHealthChecker(routingDataSource, properties).checkReplicas();
+
+        assertFalse(routingDataSource.isHealthy("replica-0"));
+    }
+
+    @Test
+    void readOnlyTransaction_UnhealthyReplica_FallsBackToPrimary() throws SQLException {
+        routingDataSource.setHealthy("replica-0", false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertTrue(connectedUrl().startsWith(PRIMARY_URL));
+    }
+
+    @Test
+    void readOnlyTransaction_ReplicaLagging_FallsBackToPrimary() throws SQLException {
+        properties.setLagQuery("SELECT 60000");
+        new ReplicaHealthChecker(routingDataSource, properties).checkReplicas();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertFalse(routingDataSource.isHealthy("replica-0"));
+        assertTrue(connectedUrl().startsWith(PRIMARY_URL));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterClientWrite_StaysOnPrimary() throws SQLException {
+        routingDataSource.setHealthy("replica-0", true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadYourWritesContext.pinToPrimary();
+
+        assertTrue(connectedUrl().startsWith(PRIMARY_URL));
+    }
+
+    private String connectedUrl() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
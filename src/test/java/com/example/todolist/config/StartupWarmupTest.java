@@ -0,0 +1,61 @@
+package com.example.todolist.config;
+
+import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+@DisabledInNativeImage
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupTest {
+
+    @Mock
+    private TaskService taskService;
+
+    @Mock
+    private ApplicationContext applicationContext;
+
+    @Test
+    void run_PreloadsMostRecentlyUpdatedTasks() {
+        // Arrange
+        TaskResponseDTO task = new TaskResponseDTO(7L, "Hot Task", null, false,
+                LocalDateTime.now(), LocalDateTime.now());
+        when(taskService.getAllTasks(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(task)));
+        when(taskService.getTasksByStatus(anyBoolean(), any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+        StartupWarmup warmup = new StartupWarmup(taskService, applicationContext, 100, 10);
+
+        // Act
+        warmup.run(null);
+
+        // Assert
+        verify(taskService).getAllTasks(argThat((Pageable p) -> p.getPageSize() == 100
+                && p.getSort().getOrderFor("updatedAt") != null));
+        verify(taskService, times(1)).getTaskById(7L);
+        verify(taskService, times(2)).getTasksByStatus(anyBoolean(), any(Pageable.class));
+    }
+
+    @Test
+    void preloadHotTasks_EmptyDatabase_ReturnsNoIds() {
+        // Arrange
+        when(taskService.getAllTasks(any(Pageable.class))).thenReturn(new PageImpl<>(List.of()));
+        StartupWarmup warmup = new StartupWarmup(taskService, applicationContext, 100, 10);
+
+        // Act & Assert
+        assertEquals(List.of(), warmup.preloadHotTasks());
+        verify(taskService, never()).getTaskById(any());
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.todolist.controller;
+
+import com.example.todolist.dto.CacheStatsDTO;
+import com.example.todolist.service.TaskCacheService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisabledInNativeImage
+@WebMvcTest(CacheController.class)
+class CacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskCacheService taskCacheService;
+
+    @Test
+    void getStatistics_ReturnsCounters() throws Exception {
+        // Arrange
+        when(taskCacheService.getStatistics())
+                .thenReturn(new CacheStatsDTO(true, 10, 2, 2, 5, 1, 1, 1, 3));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statisticsEnabled").value(true))
+                .andExpect(jsonPath("$.entityCacheHits").value(10))
+                .andExpect(jsonPath("$.queryCacheHits").value(5))
+                .andExpect(jsonPath("$.jdbcStatements").value(3));
+    }
+}
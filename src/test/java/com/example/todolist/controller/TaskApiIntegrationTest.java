@@ -0,0 +1,146 @@
+package com.example.todolist.controller;
+
+import com.example.todolist.dto.TaskCreateDTO;
+import com.example.todolist.dto.TaskLookupDTO;
+import com.example.todolist.dto.TaskResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Exercises every TaskController endpoint over HTTP against the real stack. Uses no mocks, so it also
+ * runs as the native-image test suite ({@code mvn -PnativeTest test}).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskApiIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void taskLifecycle_CreateReadUpdateToggleDelete() {
+        // Create
+        ResponseEntity<TaskResponseDTO> created = restTemplate.postForEntity(
+                "/api/tasks", newTask("Integration Task", "Created over HTTP"), TaskResponseDTO.class);
+        assertEquals(HttpStatus.CREATED, created.getStatusCode());
+        Long id = created.getBody().getId();
+        assertNotNull(id);
+        assertFalse(created.getBody().getCompleted());
+
+        // Read
+        ResponseEntity<TaskResponseDTO> fetched = restTemplate.getForEntity("/api/tasks/" + id, TaskResponseDTO.class);
+        assertEquals(HttpStatus.OK, fetched.getStatusCode());
+        assertEquals("Integration Task", fetched.getBody().getTitle());
+
+        // Update
+        ResponseEntity<TaskResponseDTO> updated = restTemplate.exchange("/api/tasks/" + id, HttpMethod.PUT,
+                new HttpEntity<>(newTask("Updated Task", "Updated over HTTP")), TaskResponseDTO.class);
+        assertEquals(HttpStatus.OK, updated.getStatusCode());
+        assertEquals("Updated Task", updated.getBody().getTitle());
+
+        // Toggle
+        ResponseEntity<TaskResponseDTO> toggled = restTemplate.exchange("/api/tasks/" + id + "/toggle",
+                HttpMethod.PATCH, null, TaskResponseDTO.class);
+        assertEquals(HttpStatus.OK, toggled.getStatusCode());
+        assertTrue(toggled.getBody().getCompleted());
+
+        // Delete
+        ResponseEntity<Void> deleted = restTemplate.exchange("/api/tasks/" + id, HttpMethod.DELETE, null, Void.class);
+        assertEquals(HttpStatus.NO_CONTENT, deleted.getStatusCode());
+        assertEquals(HttpStatus.NOT_FOUND,
+                restTemplate.getForEntity("/api/tasks/" + id, String.class).getStatusCode());
+    }
+
+    @Test
+    void getAllTasks_ListPagedAndFiltered() {
+        // Arrange
+        restTemplate.postForEntity("/api/tasks", newTask("Listed Task", null), TaskResponseDTO.class);
+
+        // Act
+        ResponseEntity<List<TaskResponseDTO>> all = restTemplate.exchange("/api/tasks", HttpMethod.GET, null,
+                new ParameterizedTypeReference<>() {});
+        ResponseEntity<Map<String, Object>> page = restTemplate.exchange(
+                "/api/tasks?completed=false&page=0&size=5&sortBy=createdAt&direction=DESC", HttpMethod.GET, null,
+                new ParameterizedTypeReference<>() {});
+
+        // Assert
+        assertEquals(HttpStatus.OK, all.getStatusCode());
+        assertFalse(all.getBody().isEmpty());
+        assertEquals(HttpStatus.OK, page.getStatusCode());
+        assertEquals(0, page.getBody().get("page"));
+        assertEquals(5, page.getBody().get("size"));
+        assertTrue(((Number) page.getBody().get("totalElements")).longValue() >= 1);
+    }
+
+    @Test
+    void lookupTasks_ReturnsExistingTasksInRequestOrder() {
+        // Arrange
+        Long first = restTemplate.postForEntity("/api/tasks", newTask("Lookup One", null), TaskResponseDTO.class)
+                .getBody().getId();
+        Long second = restTemplate.postForEntity("/api/tasks", newTask("Lookup Two", null), TaskResponseDTO.class)
+                .getBody().getId();
+        TaskLookupDTO lookup = new TaskLookupDTO();
+        lookup.setIds(List.of(second, 999_999L, first));
+
+        // Act
+        ResponseEntity<List<TaskResponseDTO>> response = restTemplate.exchange("/api/tasks/lookup", HttpMethod.POST,
+                new HttpEntity<>(lookup), new ParameterizedTypeReference<>() {});
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(second, first), response.getBody().stream().map(TaskResponseDTO::getId).toList());
+    }
+
+    @Test
+    void getStatistics_CountsCreatedTask() {
+        // Arrange
+        long before = ((Number) statistics().get("total")).longValue();
+        restTemplate.postForEntity("/api/tasks", newTask("Counted Task", null), TaskResponseDTO.class);
+
+        // Act
+        Map<String, Object> stats = statistics();
+
+        // Assert
+        long total = ((Number) stats.get("total")).longValue();
+        assertTrue(total >= before + 1);
+        assertEquals(total, ((Number) stats.get("completed")).longValue() + ((Number) stats.get("pending")).longValue());
+        assertTrue(((Map<?, ?>) stats.get("createdPerDay")).containsKey(LocalDate.now().toString()));
+    }
+
+    @Test
+    void createTask_InvalidTitle_ReturnsBadRequest() {
+        // Act
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange("/api/tasks", HttpMethod.POST,
+                new HttpEntity<>(newTask("Ab", null)), new ParameterizedTypeReference<>() {});
+
+        // Assert
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertTrue(((Map<?, ?>) response.getBody().get("errors")).containsKey("title"));
+    }
+
+    private Map<String, Object> statistics() {
+        ResponseEntity<Map<String, Object>> response = restTemplate.exchange("/api/tasks/stats", HttpMethod.GET, null,
+                new ParameterizedTypeReference<>() {});
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        return response.getBody();
+    }
+
+    private static TaskCreateDTO newTask(String title, String description) {
+        TaskCreateDTO dto = new TaskCreateDTO();
+        dto.setTitle(title);
+        dto.setDescription(description);
+        return dto;
+    }
+}
@@ -1,29 +1,40 @@
 package com.example.todolist.controller;
 
 import com.example.todolist.dto.TaskCreateDTO;
+import com.example.todolist.dto.TaskLookupDTO;
 import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.dto.TaskStatsDTO;
+import com.example.todolist.service.IdempotencyStore;
 import com.example.todolist.service.TaskService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.doNothing;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+@DisabledInNativeImage
 @WebMvcTest(TaskController.class)
+@Import(IdempotencyStore.class)
 class TaskControllerTest {
 
     @Autowired
@@ -88,6 +99,22 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$[0].completed").value(true));
     }
 
+    @Test
+    void getStatistics_ReturnsCounters() throws Exception {
+        // Arrange
+        LocalDate today = LocalDate.now();
+        when(taskService.getStatistics())
+                .thenReturn(new TaskStatsDTO(10, 4, 6, Map.of(today, 3L), LocalDateTime.now()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(10))
+                .andExpect(jsonPath("$.completed").value(4))
+                .andExpect(jsonPath("$.pending").value(6))
+                .andExpect(jsonPath("$.createdPerDay['" + today + "']").value(3));
+    }
+
     @Test
     void getTaskById_ExistingId_ReturnsTask() throws Exception {
         // Arrange
@@ -100,6 +127,36 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("Test Task"));
     }
 
+    @Test
+    void lookupTasks_ValidIds_ReturnsTasks() throws Exception {
+        // Arrange
+        TaskLookupDTO lookup = new TaskLookupDTO();
+        lookup.setIds(List.of(1L, 99L));
+        when(taskService.getTasksByIds(List.of(1L, 99L))).thenReturn(List.of(taskResponse));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lookup)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(1));
+    }
+
+    @Test
+    void lookupTasks_EmptyIds_ReturnsBadRequest() throws Exception {
+        // Arrange
+        TaskLookupDTO lookup = new TaskLookupDTO();
+        lookup.setIds(List.of());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/lookup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(lookup)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.ids").exists());
+    }
+
     @Test
     void createTask_ValidData_ReturnsCreatedTask() throws Exception {
         // Arrange
@@ -114,6 +171,44 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.title").value("Test Task"));
     }
 
+    @Test
+    void createTask_RetriedWithSameIdempotencyKey_CreatesOnce() throws Exception {
+        // Arrange
+        when(taskService.createTask(any(TaskCreateDTO.class))).thenReturn(taskResponse);
+        String body = objectMapper.writeValueAsString(taskCreate);
+
+        // Act & Assert
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/tasks")
+                            .header("Idempotency-Key", "create-1")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(1));
+        }
+        verify(taskService, times(1)).createTask(any(TaskCreateDTO.class));
+    }
+
+    @Test
+    void createTask_IdempotencyKeyReusedWithDifferentBody_ReturnsUnprocessableEntity() throws Exception {
+        // Arrange
+        when(taskService.createTask(any(TaskCreateDTO.class))).thenReturn(taskResponse);
+        mockMvc.perform(post("/api/tasks")
+                        .header("Idempotency-Key", "create-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskCreate)))
+                .andExpect(status().isCreated());
+        taskCreate.setTitle("Another Task");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks")
+                        .header("Idempotency-Key", "create-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(taskCreate)))
+                .andExpect(status().isUnprocessableEntity());
+        verify(taskService, times(1)).createTask(any(TaskCreateDTO.class));
+    }
+
     @Test
     void createTask_TitleTooShort_ReturnsBadRequest() throws Exception {
         // Arrange
@@ -181,6 +276,21 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.completed").value(true));
     }
 
+    @Test
+    void toggleTaskCompletion_RetriedWithSameIdempotencyKey_TogglesOnce() throws Exception {
+        // Arrange
+        taskResponse.setCompleted(true);
+        when(taskService.toggleTaskCompletion(1L)).thenReturn(taskResponse);
+
+        // Act & Assert
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(patch("/api/tasks/1/toggle").header("Idempotency-Key", "toggle-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.completed").value(true));
+        }
+        verify(taskService, times(1)).toggleTaskCompletion(1L);
+    }
+
     @Test
     void deleteTask_ExistingId_ReturnsNoContent() throws Exception {
         // Arrange
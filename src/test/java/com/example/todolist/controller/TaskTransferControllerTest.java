@@ -0,0 +1,81 @@
+package com.example.todolist.controller;
+
+import com.example.todolist.dto.ImportResultDTO;
+import com.example.todolist.service.TaskTransferService;
+import com.example.todolist.service.TaskTransferService.Format;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisabledInNativeImage
+@WebMvcTest(TaskTransferController.class)
+class TaskTransferControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private TaskTransferService taskTransferService;
+
+    @Test
+    void importTasks_Ndjson_ReturnsResult() throws Exception {
+        // Arrange
+        when(taskTransferService.importTasks(any(), eq(Format.NDJSON)))
+                .thenReturn(new ImportResultDTO(2, 2, 0, List.of(), false));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/tasks/import")
+                        .contentType(TaskTransferService.NDJSON_VALUE)
+                        .content("{\"title\":\"Task one\"}\n{\"title\":\"Task two\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+    }
+
+    @Test
+    void exportTasks_Csv_StreamsBodyAsynchronously() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(1);
+            output.write("id,title\n1,Task one\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(taskTransferService).exportTasks(eq(Format.CSV), any());
+
+        // Act
+        MvcResult mvcResult = mockMvc.perform(get("/api/tasks/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.csv\""))
+                .andExpect(content().contentTypeCompatibleWith(TaskTransferService.CSV_VALUE))
+                .andExpect(content().string("id,title\n1,Task one\n"));
+    }
+
+    @Test
+    void exportTasks_UnsupportedFormat_ReturnsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/tasks/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported format: xml (expected ndjson or csv)"));
+        verifyNoInteractions(taskTransferService);
+    }
+}
@@ -0,0 +1,306 @@
+package com.example.todolist.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Load test of the full HTTP stack (TaskController -> TaskService -> H2) with a configurable
+ * read/list/write/toggle mix. Excluded from the normal build; run with {@code mvn test -Ploadtest}.
+ *
+ * <p>Requests follow a fixed arrival rate (open model): each worker has a schedule of intended start
+ * times and latency is measured from the intended start, not from when the request was actually sent.
+ * A stalled server therefore shows up in the tail percentiles instead of slowing the load down
+ * (coordinated omission).
+ *
+ * <p>Settings (system properties): {@code loadtest.seed} (tasks created before the run),
+ * {@code loadtest.rate} (requests per second across all workers), {@code loadtest.concurrency} (workers,
+ * the maximum number of requests in flight), {@code loadtest.warmup}, {@code loadtest.duration} (ISO-8601),
+ * {@code loadtest.mix} (e.g. {@code read=60,list=20,write=10,toggle=10}) and {@code loadtest.tolerance}.
+ *
+ * <p>The report goes to {@code target/loadtest/report.txt} and the measured values to
+ * {@code target/loadtest/baseline.properties}. The run fails if {@code src/test/resources/loadtest/baseline.properties}
+ * has no values; record one on the reference machine with {@code -Dloadtest.record-baseline=true} and copy
+ * the measured file there.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.warmup.enabled=false", "logging.level.root=WARN"})
+class TaskApiLoadTest {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Path OUTPUT_DIR = Path.of("target", "loadtest");
+
+    enum Operation { READ, LIST, WRITE, TOGGLE }
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void mixedWorkload_StaysWithinBaseline() throws Exception {
+        int seed = Integer.getInteger("loadtest.seed", 1_000);
+        int rate = Integer.getInteger("loadtest.rate", 1_000);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 32);
+        Duration warmup = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+        Duration duration = Duration.parse(System.getProperty("loadtest.duration", "PT30S"));
+        double tolerance = Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25"));
+        boolean recordBaseline = Boolean.getBoolean("loadtest.record-baseline");
+        Map<Operation, Integer> mix = parseMix(System.getProperty("loadtest.mix", "read=60,list=20,write=10,toggle=10"));
+
+        long[] ids = seedTasks(seed);
+        run(ids, mix, rate, concurrency, warmup);
+        Result result = run(ids, mix, rate, concurrency, duration);
+
+        String report = report(result, duration, rate, concurrency, mix);
+        Files.createDirectories(OUTPUT_DIR);
+        Files.writeString(OUTPUT_DIR.resolve("report.txt"), report);
+
+        Properties measured = toProperties(result, duration);
+        try (OutputStream out = Files.newOutputStream(OUTPUT_DIR.resolve("baseline.properties"))) {
+            measured.store(out, "Measured by TaskApiLoadTest");
+        }
+
+        assertEquals(0, result.errors.sum(), "requests failed during the run");
+        if (recordBaseline) {
+            return;
+        }
+        List<String> regressions = compareWithBaseline(measured, tolerance);
+        assertTrue(regressions.isEmpty(), "regressions against baseline: " + regressions);
+    }
+
+    private long[] seedTasks(int count) throws IOException, InterruptedException {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            HttpResponse<String> response = createTask("Seed task " + i);
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            assertTrue(matcher.find(), "seeding failed: " + response.body());
+            ids[i] = Long.parseLong(matcher.group(1));
+        }
+        return ids;
+    }
+
+    private Result run(long[] ids, Map<Operation, Integer> mix, int rate, int concurrency, Duration duration)
+            throws Exception {
+        Result result = new Result();
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        // Cada worker envía una petición cada intervalNanos; entre todos suman loadtest.rate por segundo
+        long intervalNanos = Math.max(1, 1_000_000_000L * concurrency / rate);
+
+        // Java 17: hilos de plataforma, uno por usuario concurrente
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int w = 0; w < concurrency; w++) {
+                Random random = new Random(w);
+                long firstStart = start + intervalNanos * w / concurrency;
+                workers.add(executor.submit(() -> {
+                    for (long intended = firstStart; intended < deadline; intended += intervalNanos) {
+                        long wait = intended - System.nanoTime();
+                        if (wait > 0) {
+                            LockSupport.parkNanos(wait);
+                        }
+                        Operation operation = pick(mix, totalWeight, random);
+                        int status = execute(operation, ids[random.nextInt(ids.length)], random);
+                        // Desde el inicio previsto: si el worker se atrasó, la espera cuenta como latencia
+                        result.latencies.get(operation).recordValue((System.nanoTime() - intended) / 1_000);
+                        if (status >= 400) {
+                            result.errors.increment();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return result;
+    }
+
+    private int execute(Operation operation, long id, Random random) {
+        try {
+            return switch (operation) {
+                case READ -> send(HttpRequest.newBuilder(uri("/api/tasks/" + id)).GET());
+                case LIST -> send(HttpRequest.newBuilder(
+                        uri("/api/tasks?page=" + random.nextInt(10) + "&size=20&sortBy=createdAt&direction=DESC")).GET());
+                case WRITE -> createTask("Load test task " + random.nextInt()).statusCode();
+                case TOGGLE -> send(HttpRequest.newBuilder(uri("/api/tasks/" + id + "/toggle"))
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+            };
+        } catch (IOException ex) {
+            return 599;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return 599;
+        }
+    }
+
+    private HttpResponse<String> createTask(String title) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/tasks"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"title\":\"" + title + "\",\"description\":\"Generated by TaskApiLoadTest\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private int send(HttpRequest.Builder builder) throws IOException, InterruptedException {
+        return client.send(builder.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static Operation pick(Map<Operation, Integer> mix, int totalWeight, Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Empty workload mix");
+    }
+
+    private static Map<Operation, Integer> parseMix(String spec) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : spec.split(",")) {
+            String[] keyValue = part.trim().split("=");
+            int weight = Integer.parseInt(keyValue[1].trim());
+            if (weight > 0) {
+                mix.put(Operation.valueOf(keyValue[0].trim().toUpperCase()), weight);
+            }
+        }
+        return mix;
+    }
+
+    private static String report(Result result, Duration duration, int rate, int concurrency,
+                                 Map<Operation, Integer> mix) {
+        StringWriter buffer = new StringWriter();
+        PrintWriter out = new PrintWriter(buffer);
+        out.printf(Locale.ROOT, "Load test: %.1f s, target %d req/s, %d workers, mix %s%n",
+                seconds(duration), rate, concurrency, mix);
+        out.printf("%-8s %10s %10s %10s %10s %10s %10s %10s%n",
+                "op", "requests", "req/s", "p50(us)", "p90(us)", "p99(us)", "p99.9(us)", "max(us)");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = result.latencies.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-8s %10d %10.1f %10d %10d %10d %10d %10d%n",
+                    operation.name().toLowerCase(),
+                    histogram.getTotalCount(),
+                    histogram.getTotalCount() / seconds(duration),
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue());
+        }
+        out.printf("errors: %d%n", result.errors.sum());
+        out.flush();
+        return buffer.toString();
+    }
+
+    private static Properties toProperties(Result result, Duration duration) {
+        Properties properties = new Properties();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = result.latencies.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            String key = operation.name().toLowerCase();
+            properties.setProperty(key + ".throughput",
+                    String.format(Locale.ROOT, "%.1f", histogram.getTotalCount() / seconds(duration)));
+            properties.setProperty(key + ".p99", String.valueOf(histogram.getValueAtPercentile(99)));
+        }
+        return properties;
+    }
+
+    // toSeconds() trunca: con duraciones menores a un segundo el throughput daría Infinity o NaN
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1e9;
+    }
+
+    private static List<String> compareWithBaseline(Properties measured, double tolerance) throws IOException {
+        List<String> regressions = new ArrayList<>();
+        Properties baseline = new Properties();
+        try (InputStream in = TaskApiLoadTest.class.getResourceAsStream("/loadtest/baseline.properties")) {
+            if (in != null) {
+                baseline.load(in);
+            }
+        }
+        // Sin valores la comparación no verificaría nada: se falla en lugar de pasar en silencio
+        assertFalse(baseline.isEmpty(), "src/test/resources/loadtest/baseline.properties has no values. "
+                + "Run with -Dloadtest.record-baseline=true on the reference machine and copy "
+                + OUTPUT_DIR.resolve("baseline.properties") + " there");
+        for (String key : baseline.stringPropertyNames()) {
+            if (!measured.containsKey(key)) {
+                continue;
+            }
+            double expected = Double.parseDouble(baseline.getProperty(key));
+            double actual = Double.parseDouble(measured.getProperty(key));
+            boolean regressed = key.endsWith(".throughput")
+                    ? actual < expected * (1 - tolerance)
+                    : actual > expected * (1 + tolerance);
+            if (regressed) {
+                regressions.add(key + ": baseline " + expected + ", measured " + actual);
+            }
+        }
+        return regressions;
+    }
+
+    private static final class Result {
+        private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        private final LongAdder errors = new LongAdder();
+
+        Result() {
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new ConcurrentHistogram(3));
+            }
+        }
+    }
+}
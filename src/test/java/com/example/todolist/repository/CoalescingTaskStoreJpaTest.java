@@ -0,0 +1,114 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.config.ReadYourWritesContext;
+import com.example.todolist.model.Task;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the coalescer against the real JPA store and second-level cache, counting statements with
+ * Hibernate statistics.
+ */
+@DisabledInNativeImage
+@DataJpaTest(properties = "app.cache.statistics-enabled=true")
+@Import(JpaTaskStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CoalescingTaskStoreJpaTest {
+
+    @Autowired
+    private JpaTaskStore jpaTaskStore;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CoalescingTaskStore store;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        store = new CoalescingTaskStore(jpaTaskStore, 1_000, 100, Duration.ofSeconds(5));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+        taskRepository.deleteAll();
+    }
+
+    @Test
+    void findById_TaskInSecondLevelCache_RunsNoStatement() {
+        // Arrange
+        Task task = taskRepository.save(newTask("Cached task"));
+        entityManagerFactory.getCache().evictAll();
+        jpaTaskStore.findById(task.getId());
+        statistics.clear();
+
+        // Act
+        Task found = store.findById(task.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("Cached task", found.getTitle());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void findById_NotCached_IsLoadedThroughBatchQuery() {
+        // Arrange
+        Task task = taskRepository.save(newTask("Uncached task"));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // Act
+        Task found = store.findById(task.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("Uncached task", found.getTitle());
+        assertEquals(1, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    void findById_PinnedToPrimary_LoadsOnCallerWithoutBatchQuery() {
+        // Arrange
+        Task task = taskRepository.save(newTask("Pinned task"));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+        ReadYourWritesContext.pinToPrimary();
+
+        // Act
+        Task found = store.findById(task.getId()).orElseThrow();
+
+        // Assert
+        assertEquals("Pinned task", found.getTitle());
+        assertEquals(0, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+    }
+
+    private static Task newTask(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setCompleted(false);
+        task.setCreatedAt(LocalDateTime.now());
+        task.setUpdatedAt(LocalDateTime.now());
+        return task;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.config.ReadYourWritesContext;
+import com.example.todolist.model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisabledInNativeImage
+@ExtendWith(MockitoExtension.class)
+class CoalescingTaskStoreTest {
+
+    @Mock
+    private TaskStore delegate;
+
+    private CoalescingTaskStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new CoalescingTaskStore(delegate, 200_000, 100, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void findById_ConcurrentLookups_AreServedByOneQuery() throws Exception {
+        // Arrange
+        when(delegate.findAllById(any())).thenReturn(List.of(task(1L), task(2L)));
+        long[] requested = {1L, 2L, 1L, 3L, 2L, 1L};
+        // Todos los lookups están en curso antes de que el líder decida si esperar la ventana
+        CyclicBarrier allStarted = new CyclicBarrier(requested.length);
+        when(delegate.findCachedById(any())).thenAnswer(invocation -> {
+            allStarted.await();
+            return Optional.empty();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(requested.length);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<Task>>> results = new ArrayList<>();
+
+        // Act
+        try {
+            for (long id : requested) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return store.findById(id);
+                }));
+            }
+            start.countDown();
+
+            // Assert
+            for (int i = 0; i < requested.length; i++) {
+                Optional<Task> result = results.get(i).get();
+                if (requested[i] == 3L) {
+                    assertTrue(result.isEmpty());
+                } else {
+                    assertEquals(requested[i], result.orElseThrow().getId());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(delegate, times(1)).findAllById(any());
+        verify(delegate, never()).findById(any());
+    }
+
+    @Test
+    void findById_Uncontended_DoesNotWaitForWindow() {
+        // Arrange
+        CoalescingTaskStore longWindow = new CoalescingTaskStore(delegate, 60_000_000, 100, Duration.ofSeconds(5));
+        when(delegate.findAllById(List.of(1L))).thenReturn(List.of(task(1L)));
+
+        // Act
+        Optional<Task> result = assertTimeoutPreemptively(Duration.ofSeconds(5), () -> longWindow.findById(1L));
+
+        // Assert
+        assertEquals(1L, result.orElseThrow().getId());
+    }
+
+    @Test
+    void findById_BatchFull_FlushesWithoutWaitingForWindow() {
+        // Arrange
+        CoalescingTaskStore smallBatches = new CoalescingTaskStore(delegate, 60_000_000, 1, Duration.ofSeconds(5));
+        when(delegate.findAllById(List.of(1L))).thenReturn(List.of(task(1L)));
+
+        // Act
+        Optional<Task> result = smallBatches.findById(1L);
+
+        // Assert
+        assertEquals(1L, result.orElseThrow().getId());
+    }
+
+    @Test
+    void findById_DelegateFails_PropagatesException() {
+        // Arrange
+        when(delegate.findAllById(any())).thenThrow(new IllegalStateException("database down"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> store.findById(1L));
+    }
+
+    @Test
+    void findById_DelegateThrowsError_CompletesFuturesSoLaterLookupsDoNotHang() {
+        // Arrange
+        when(delegate.findAllById(any()))
+                .thenThrow(new StackOverflowError())
+                .thenReturn(List.of(task(1L)));
+
+        // Act & Assert
+        assertThrows(StackOverflowError.class, () -> store.findById(1L));
+        assertEquals(1L, store.findById(1L).orElseThrow().getId());
+    }
+
+    @Test
+    void findById_CachedTask_IsServedWithoutBatching() {
+        // Arrange
+        when(delegate.findCachedById(1L)).thenReturn(Optional.of(task(1L)));
+
+        // Act
+        Optional<Task> result = store.findById(1L);
+
+        // Assert
+        assertTrue(result.isPresent());
+        verify(delegate, never()).findAllById(any());
+    }
+
+    @Test
+    void findById_PinnedToPrimary_BypassesCoalescing() {
+        // Arrange
+        ReadYourWritesContext.pinToPrimary();
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L)));
+
+        // Act
+        Optional<Task> result = store.findById(1L);
+
+        // Assert
+        assertTrue(result.isPresent());
+        verify(delegate, never()).findAllById(any());
+    }
+
+    @Test
+    void findById_InsideWriteTransaction_BypassesCoalescing() {
+        // Arrange
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        when(delegate.findById(1L)).thenReturn(Optional.of(task(1L)));
+
+        // Act
+        Optional<Task> result = store.findById(1L);
+
+        // Assert
+        assertTrue(result.isPresent());
+        verify(delegate, never()).findAllById(any());
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setCompleted(false);
+        return task;
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryTaskStoreTest {
+
+    private InMemoryTaskStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryTaskStore(4, "");
+    }
+
+    @Test
+    void save_NewTask_AssignsIdAndTimestamps() {
+        // Act
+        Task saved = store.save(newTask("First Task", false));
+
+        // Assert
+        assertEquals(1L, saved.getId());
+        assertNotNull(saved.getCreatedAt());
+        assertNotNull(saved.getUpdatedAt());
+        assertTrue(store.findById(1L).isPresent());
+    }
+
+    @Test
+    void insertAll_KeepsGivenTimestampsAndAssignsNewIds() {
+        // Arrange
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        LocalDateTime updatedAt = createdAt.plusDays(1);
+        Task imported = new Task(42L, "Imported Task", null, true, createdAt, updatedAt);
+
+        // Act
+        store.insertAll(List.of(imported));
+
+        // Assert
+        Task stored = store.findById(1L).orElseThrow();
+        assertEquals(createdAt, stored.getCreatedAt());
+        assertEquals(updatedAt, stored.getUpdatedAt());
+        assertTrue(stored.getCompleted());
+        assertEquals(1, store.countByCompleted(true));
+    }
+
+    @Test
+    void findById_ReturnsCopy_SoCallerChangesAreNotStoredUntilSave() {
+        // Arrange
+        Task saved = store.save(newTask("First Task", false));
+
+        // Act
+        Task loaded = store.findById(saved.getId()).orElseThrow();
+        loaded.setCompleted(true);
+
+        // Assert
+        assertFalse(store.findById(saved.getId()).orElseThrow().getCompleted());
+        assertTrue(store.findByCompleted(true).isEmpty());
+    }
+
+    @Test
+    void save_ExistingTask_MovesItBetweenStatusIndexes() {
+        // Arrange
+        Task saved = store.save(newTask("First Task", false));
+        store.save(newTask("Second Task", false));
+
+        // Act
+        saved.setCompleted(true);
+        store.save(saved);
+
+        // Assert
+        assertEquals(1, store.findByCompleted(true).size());
+        assertEquals(1, store.findByCompleted(false).size());
+        assertEquals(1, store.findByCompleted(true, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void save_ConcurrentUpdates_ReadersAlwaysSeeEveryTaskOnce() throws Exception {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            store.save(newTask("Task " + i, false));
+        }
+        Task toggled = store.findById(1L).orElseThrow();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20_000; i++) {
+                toggled.setCompleted(!toggled.getCompleted());
+                store.save(toggled);
+            }
+            done.set(true);
+        });
+
+        // Act
+        writer.start();
+        try {
+            while (!done.get()) {
+                // Assert
+                assertEquals(10, store.count());
+                assertEquals(10, store.findAll().size());
+                List<Long> ids = store.findAll(PageRequest.of(0, 20, Sort.by("updatedAt"))).map(Task::getId).toList();
+                assertEquals(10, ids.stream().distinct().count(), () -> "ids: " + ids);
+                assertEquals(10, ids.size(), () -> "ids: " + ids);
+            }
+        } finally {
+            writer.join();
+        }
+        assertEquals(10, store.countByCompleted(true) + store.countByCompleted(false));
+    }
+
+    @Test
+    void findAll_PagedBySortedIndex_ReturnsRequestedSlice() {
+        // Arrange
+        for (int i = 0; i < 25; i++) {
+            store.save(newTask("Task " + i, i % 2 == 0));
+        }
+
+        // Act
+        Page<Task> page = store.findAll(PageRequest.of(1, 10, Sort.by("createdAt").descending()));
+        Page<Task> completed = store.findByCompleted(true, PageRequest.of(0, 5, Sort.by("id").descending()));
+
+        // Assert
+        assertEquals(25, page.getTotalElements());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(10, page.getContent().size());
+        assertEquals(15L, page.getContent().get(0).getId());
+        assertEquals(13, completed.getTotalElements());
+        assertEquals(25L, completed.getContent().get(0).getId());
+        assertTrue(completed.getContent().stream().allMatch(Task::getCompleted));
+    }
+
+    @Test
+    void findAll_SortedByUnindexedField_SortsInMemory() {
+        // Arrange
+        store.save(newTask("Charlie", false));
+        store.save(newTask("Alpha", false));
+        store.save(newTask("Bravo", false));
+
+        // Act
+        List<Task> content = store.findAll(PageRequest.of(0, 10, Sort.by("title"))).getContent();
+
+        // Assert
+        assertEquals(List.of("Alpha", "Bravo", "Charlie"), content.stream().map(Task::getTitle).toList());
+    }
+
+    @Test
+    void deleteById_RemovesTaskAndIndexes() {
+        // Arrange
+        Task saved = store.save(newTask("First Task", true));
+
+        // Act
+        store.deleteById(saved.getId());
+
+        // Assert
+        assertEquals(Optional.empty(), store.findById(saved.getId()));
+        assertTrue(store.findAll().isEmpty());
+        assertEquals(0, store.findByCompleted(true, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void snapshot_RestoresTasksAndIdSequence(@TempDir Path dir) throws Exception {
+        // Arrange
+        Path file = dir.resolve("tasks.snapshot");
+        InMemoryTaskStore original = new InMemoryTaskStore(4, file.toString());
+        original.save(newTask("First Task", true));
+        Task second = newTask("Second Task", false);
+        second.setDescription(null);
+        original.save(second);
+        original.snapshot();
+
+        // Act
+        InMemoryTaskStore restored = new InMemoryTaskStore(4, file.toString());
+        restored.restoreSnapshot();
+        Task third = restored.save(newTask("Third Task", false));
+
+        // Assert
+        assertEquals(2, restored.findByCompleted(false).size());
+        assertEquals("First Task", restored.findById(1L).orElseThrow().getTitle());
+        assertNull(restored.findById(2L).orElseThrow().getDescription());
+        assertEquals(3L, third.getId());
+    }
+
+    @Test
+    void snapshot_SpanningSeveralMappedWindows_RoundTrips(@TempDir Path dir) throws Exception {
+        // Arrange: ventanas de 64 bytes, cada registro fuerza un remapeo
+        Path file = dir.resolve("tasks.snapshot");
+        InMemoryTaskStore original = new InMemoryTaskStore(4, file.toString(), 64);
+        for (int i = 0; i < 50; i++) {
+            original.save(newTask("Task number " + i, i % 3 == 0));
+        }
+        original.save(newTask("Long ".repeat(40), false));
+        original.snapshot();
+
+        // Act
+        InMemoryTaskStore restored = new InMemoryTaskStore(4, file.toString(), 64);
+        restored.restoreSnapshot();
+
+        // Assert
+        assertEquals(51, restored.count());
+        assertEquals(17, restored.countByCompleted(true));
+        assertEquals("Task number 49", restored.findById(50L).orElseThrow().getTitle());
+        assertEquals("Long ".repeat(40), restored.findById(51L).orElseThrow().getTitle());
+    }
+
+    private static Task newTask(String title, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription("Description");
+        task.setCompleted(completed);
+        return task;
+    }
+}
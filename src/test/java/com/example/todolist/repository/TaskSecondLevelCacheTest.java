@@ -0,0 +1,108 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.model.Task;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the second-level and query cache by counting JDBC statements. Each repository call runs
+ * in its own session, so only the shared cache can avoid a statement.
+ */
+@DisabledInNativeImage
+@DataJpaTest(properties = "app.cache.statistics-enabled=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskSecondLevelCacheTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void findById_SecondCall_RunsNoStatement() {
+        // Arrange
+        Task task = taskRepository.save(newTask("Cached by id", false));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        // Act
+        taskRepository.findById(task.getId());
+        long afterFirst = statistics.getPrepareStatementCount();
+        Task second = taskRepository.findById(task.getId()).orElseThrow();
+
+        // Assert
+        assertEquals(1, afterFirst);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals("Cached by id", second.getTitle());
+    }
+
+    @Test
+    void findByCompleted_Repeated_IsServedFromQueryCache() {
+        // Arrange
+        taskRepository.save(newTask("Done", true));
+        taskRepository.save(newTask("Also done", true));
+        statistics.clear();
+
+        // Act
+        taskRepository.findByCompleted(true);
+        long afterFirst = statistics.getPrepareStatementCount();
+        List<Task> second = taskRepository.findByCompleted(true);
+
+        // Assert
+        assertEquals(1, afterFirst);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(2, second.size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void bulkDelete_InvalidatesCachedQueries() {
+        // Arrange
+        taskRepository.save(newTask("Pending", false));
+        assertEquals(1, taskRepository.findByCompleted(false).size());
+
+        // Act
+        taskRepository.deleteAllInBatch();
+        statistics.clear();
+        List<Task> afterDelete = taskRepository.findByCompleted(false);
+
+        // Assert
+        assertTrue(afterDelete.isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    private static Task newTask(String title, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setCompleted(completed);
+        return task;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.todolist.repository;
+
+import com.example.todolist.model.Task;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rough comparison of the in-memory engine against JPA over H2. Excluded from the normal build;
+ * run with {@code mvn test -Pbenchmark}.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@Import(JpaTaskStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskStoreBenchmarkTest {
+
+    private static final int TASKS = 20_000;
+    private static final int LOOKUPS = 100_000;
+    private static final int PAGES = 2_000;
+
+    @Autowired
+    private JpaTaskStore jpaTaskStore;
+
+    @Test
+    void compareInMemoryAgainstH2() {
+        // Warm-up de ambos motores antes de medir
+        measure(jpaTaskStore, 1_000, 5_000, 200);
+        measure(new InMemoryTaskStore(16, ""), 1_000, 5_000, 200);
+
+        long[] h2 = measure(jpaTaskStore, TASKS, LOOKUPS, PAGES);
+        long[] memory = measure(new InMemoryTaskStore(16, ""), TASKS, LOOKUPS, PAGES);
+
+        log.info("Task store benchmark:\n{}\n{}\n{}",
+                String.format(Locale.ROOT, "%-10s %12s %12s %12s", "engine", "insert(ms)", "findById(ms)", "page(ms)"),
+                String.format(Locale.ROOT, "%-10s %12d %12d %12d", "h2", h2[0], h2[1], h2[2]),
+                String.format(Locale.ROOT, "%-10s %12d %12d %12d", "inmemory", memory[0], memory[1], memory[2]));
+        assertTrue(memory[1] <= h2[1], "in-memory lookups should not be slower than H2");
+    }
+
+    private static long[] measure(TaskStore store, int tasks, int lookups, int pages) {
+        Random random = new Random(42);
+        List<Long> ids = new ArrayList<>(tasks);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < tasks; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark task " + i);
+            task.setDescription("Description " + i);
+            task.setCompleted(i % 3 == 0);
+            ids.add(store.save(task).getId());
+        }
+        long insert = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < lookups; i++) {
+            store.findById(ids.get(random.nextInt(ids.size())));
+        }
+        long lookup = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < pages; i++) {
+            store.findByCompleted(false, PageRequest.of(random.nextInt(50), 20, Sort.by("createdAt").descending()));
+        }
+        long page = System.nanoTime() - start;
+
+        return new long[]{
+                TimeUnit.NANOSECONDS.toMillis(insert),
+                TimeUnit.NANOSECONDS.toMillis(lookup),
+                TimeUnit.NANOSECONDS.toMillis(page)
+        };
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.todolist.service;
+
+import com.example.todolist.exception.IdempotencyKeyConflictException;
+import com.example.todolist.exception.InvalidIdempotencyKeyException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(Duration.ofHours(1), 100);
+
+    @Test
+    void execute_SameKey_ReturnsCachedResultWithoutRunningAgain() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        int first = store.execute("create", "k1", "body", calls::incrementAndGet);
+        int second = store.execute("create", "k1", "body", calls::incrementAndGet);
+
+        // Assert
+        assertEquals(1, first);
+        assertEquals(1, second);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void execute_WithoutKey_AlwaysRuns() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        store.execute("create", null, "body", calls::incrementAndGet);
+        store.execute("create", null, "body", calls::incrementAndGet);
+
+        // Assert
+        assertEquals(2, calls.get());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void execute_SameKeyInAnotherScope_RunsSeparately() {
+        // Act
+        int create = store.execute("create", "k1", 1L, () -> 1);
+        int toggle = store.execute("toggle", "k1", 1L, () -> 2);
+
+        // Assert
+        assertEquals(1, create);
+        assertEquals(2, toggle);
+    }
+
+    @Test
+    void execute_DifferentFingerprint_ThrowsConflict() {
+        // Arrange
+        store.execute("toggle", "k1", 1L, () -> "done");
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> store.execute("toggle", "k1", 2L, () -> "other"));
+    }
+
+    @Test
+    void execute_InvalidKey_ThrowsInvalidIdempotencyKey() {
+        assertThrows(InvalidIdempotencyKeyException.class, () -> store.execute("create", " ", "body", () -> 1));
+        assertThrows(InvalidIdempotencyKeyException.class, () -> store.execute("create", "x".repeat(256), "body", () -> 1));
+    }
+
+    @Test
+    void execute_FailedAction_IsForgottenSoRetryRuns() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> store.execute("create", "k1", "body", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+        int retried = store.execute("create", "k1", "body", calls::incrementAndGet);
+
+        // Assert
+        assertEquals(2, retried);
+    }
+
+    @Test
+    void execute_ConcurrentRetries_WaitForInFlightExecution() throws Exception {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act
+            Future<Integer> first = executor.submit(() -> store.execute("create", "k1", "body", () -> {
+                started.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Future<Integer> second = executor.submit(() -> store.execute("create", "k1", "body", calls::incrementAndGet));
+            Future<Integer> third = executor.submit(() -> store.execute("create", "k1", "body", calls::incrementAndGet));
+            release.countDown();
+
+            // Assert
+            assertEquals(1, first.get(5, TimeUnit.SECONDS));
+            assertEquals(1, second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, third.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void execute_ExpiredEntry_RunsAgain() {
+        // Arrange
+        AtomicLong nanos = new AtomicLong();
+        IdempotencyStore expiring = new IdempotencyStore(Duration.ofMinutes(1), 100, nanos::get);
+        AtomicInteger calls = new AtomicInteger();
+
+        // Act
+        expiring.execute("create", "k1", "body", calls::incrementAndGet);
+        int beforeTtl = expiring.execute("create", "k1", "body", calls::incrementAndGet);
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        int afterTtl = expiring.execute("create", "k1", "body", calls::incrementAndGet);
+
+        // Assert
+        assertEquals(1, beforeTtl);
+        assertEquals(2, afterTtl);
+    }
+
+    @Test
+    void execute_BeyondMaxEntries_KeepsSizeBounded() {
+        // Arrange
+        IdempotencyStore bounded = new IdempotencyStore(Duration.ofHours(1), 3);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            bounded.execute("create", "k" + i, "body", () -> "done");
+        }
+
+        // Assert
+        assertEquals(3, bounded.size());
+    }
+
+    @Test
+    void execute_FailedActions_AreNotRetained() {
+        // Act
+        for (int i = 0; i < 50; i++) {
+            String key = "k" + i;
+            assertThrows(IllegalStateException.class, () -> store.execute("toggle", key, 1L, () -> {
+                throw new IllegalStateException("missing");
+            }));
+        }
+
+        // Assert
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void execute_InFlightEntry_IsNotEvictedWhenFull() throws Exception {
+        // Arrange
+        IdempotencyStore bounded = new IdempotencyStore(Duration.ofHours(1), 1);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Integer> first = executor.submit(() -> bounded.execute("create", "slow", "body", () -> {
+                started.countDown();
+                await(release);
+                return calls.incrementAndGet();
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // Act
+            for (int i = 0; i < 20; i++) {
+                bounded.execute("create", "k" + i, "body", () -> 0);
+            }
+            bounded.size();
+            Future<Integer> retry = executor.submit(() -> bounded.execute("create", "slow", "body", calls::incrementAndGet));
+            release.countDown();
+
+            // Assert
+            assertEquals(1, first.get(5, TimeUnit.SECONDS));
+            assertEquals(1, retry.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
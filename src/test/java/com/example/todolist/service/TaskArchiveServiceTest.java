@@ -0,0 +1,140 @@
+package com.example.todolist.service;
+
+import com.example.todolist.dto.TaskResponseDTO;
+import com.example.todolist.exception.TaskNotFoundException;
+import com.example.todolist.model.Task;
+import com.example.todolist.repository.ArchivedTaskRepository;
+import com.example.todolist.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@DisabledInNativeImage
+@DataJpaTest
+@Import({TaskArchiveService.class, TaskCacheService.class})
+@TestPropertySource(properties = "app.archive.batch-size=2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskArchiveServiceTest {
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @MockitoSpyBean
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private TaskStatistics taskStatistics;
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        archivedTaskRepository.deleteAll();
+    }
+
+    @Test
+    void archiveCompletedBefore_MovesOnlyCompletedTasksInBatches() {
+        // Arrange
+        Task first = taskRepository.save(newTask("Completed One", true));
+        taskRepository.save(newTask("Completed Two", true));
+        taskRepository.save(newTask("Completed Three", true));
+        Task pending = taskRepository.save(newTask("Still Pending", false));
+
+        // Act
+        int archived = taskArchiveService.archiveCompletedBefore(LocalDateTime.now().plusMinutes(1));
+
+        // Assert
+        assertEquals(3, archived);
+        assertEquals(1, taskRepository.count());
+        assertTrue(taskRepository.existsById(pending.getId()));
+        assertEquals(3, archivedTaskRepository.count());
+        verify(taskStatistics).onArchived(2);
+        verify(taskStatistics).onArchived(1);
+
+        TaskResponseDTO fromArchive = taskArchiveService.getArchivedTaskById(first.getId());
+        assertEquals("Completed One", fromArchive.getTitle());
+        assertTrue(fromArchive.getCompleted());
+    }
+
+    @Test
+    void archiveCompletedBefore_RecentTasks_AreKept() {
+        // Arrange
+        taskRepository.save(newTask("Recently Completed", true));
+
+        // Act
+        int archived = taskArchiveService.archiveCompletedBefore(LocalDateTime.now().minusDays(30));
+
+        // Assert
+        assertEquals(0, archived);
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    void archiveCompletedBefore_TaskReopenedBetweenSelectAndDelete_IsKept() {
+        // Arrange
+        Task reopened = taskRepository.save(newTask("Reopened Meanwhile", true));
+        Task completed = taskRepository.save(newTask("Still Completed", true));
+        LocalDateTime cutoff = LocalDateTime.now().plusMinutes(1);
+        TransactionTemplate otherRequest = new TransactionTemplate(transactionManager);
+        otherRequest.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        doAnswer(invocation -> {
+            Object batch = invocation.callRealMethod();
+            // Otro request reabre la tarea y confirma mientras el lote está en curso
+            otherRequest.executeWithoutResult(status -> jdbcTemplate.update(
+                    "update tasks set completed = false, updated_at = ? where id = ?",
+                    cutoff.plusMinutes(5), reopened.getId()));
+            return batch;
+        }).when(taskRepository).findCompletedBefore(any(), any());
+
+        // Act
+        int archived = taskArchiveService.archiveCompletedBefore(cutoff);
+
+        // Assert
+        assertEquals(1, archived);
+        assertFalse(jdbcTemplate.queryForObject(
+                "select completed from tasks where id = ?", Boolean.class, reopened.getId()));
+        assertFalse(archivedTaskRepository.existsById(reopened.getId()));
+        assertTrue(archivedTaskRepository.existsById(completed.getId()));
+        verify(taskStatistics).onArchived(1);
+    }
+
+    @Test
+    void getArchivedTaskById_NotArchived_ThrowsTaskNotFoundException() {
+        // Act & Assert
+        assertThrows(TaskNotFoundException.class, () -> taskArchiveService.getArchivedTaskById(999L));
+    }
+
+    private static Task newTask(String title, boolean completed) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setCompleted(completed);
+        return task;
+    }
+}
@@ -5,9 +5,10 @@ import com.example.todolist.dto.TaskResponseDTO;
 import com.example.todolist.exception.TaskNotFoundException;
 import com.example.todolist.exception.ResourceNotFoundException;
 import com.example.todolist.model.Task;
-import com.example.todolist.repository.TaskRepository;
+import com.example.todolist.repository.TaskStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -22,11 +23,15 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+@DisabledInNativeImage
 @ExtendWith(MockitoExtension.class)
 class TaskServiceTest {
 
     @Mock
-    private TaskRepository taskRepository;
+    private TaskStore taskStore;
+
+    @Mock
+    private TaskStatistics taskStatistics;
 
     @InjectMocks
     private TaskService taskService;
@@ -60,7 +65,7 @@ class TaskServiceTest {
         task2.setCreatedAt(LocalDateTime.now());
         task2.setUpdatedAt(LocalDateTime.now());
 
-        when(taskRepository.findAll()).thenReturn(Arrays.asList(task, task2));
+        when(taskStore.findAll()).thenReturn(Arrays.asList(task, task2));
 
         // Act
         List<TaskResponseDTO> result = taskService.getAllTasks();
@@ -70,13 +75,13 @@ class TaskServiceTest {
         assertEquals(2, result.size());
         assertEquals("Test Task", result.get(0).getTitle());
         assertEquals("Second Task", result.get(1).getTitle());
-        verify(taskRepository, times(1)).findAll();
+        verify(taskStore, times(1)).findAll();
     }
 
     @Test
     void getTaskById_ExistingId_ReturnsTaskResponseDTO() {
         // Arrange
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+        when(taskStore.findById(1L)).thenReturn(Optional.of(task));
 
         // Act
         TaskResponseDTO result = taskService.getTaskById(1L);
@@ -87,25 +92,48 @@ class TaskServiceTest {
         assertEquals("Test Task", result.getTitle());
         assertEquals("Test Description", result.getDescription());
         assertFalse(result.getCompleted());
-        verify(taskRepository, times(1)).findById(1L);
+        verify(taskStore, times(1)).findById(1L);
     }
 
     @Test
     void getTaskById_NonExistingId_ThrowsTaskNotFoundException() {
         // Arrange
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskStore.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(TaskNotFoundException.class, () -> {
             taskService.getTaskById(999L);
         });
-        verify(taskRepository, times(1)).findById(999L);
+        verify(taskStore, times(1)).findById(999L);
+    }
+
+    @Test
+    void getTasksByIds_ReturnsExistingTasksInRequestOrder() {
+        // Arrange
+        Task task2 = new Task();
+        task2.setId(2L);
+        task2.setTitle("Second Task");
+        task2.setCompleted(true);
+        task2.setCreatedAt(LocalDateTime.now());
+        task2.setUpdatedAt(LocalDateTime.now());
+
+        when(taskStore.findAllById(any())).thenReturn(Arrays.asList(task, task2));
+
+        // Act
+        List<TaskResponseDTO> result = taskService.getTasksByIds(Arrays.asList(2L, 999L, 1L, 2L));
+
+        // Assert
+        assertEquals(2, result.size());
+        assertEquals(2L, result.get(0).getId());
+        assertEquals(1L, result.get(1).getId());
+        verify(taskStore, times(1)).findAllById(any());
+        verify(taskStore, never()).findById(anyLong());
     }
 
     @Test
     void createTask_ValidDTO_ReturnsTaskResponseDTO() {
         // Arrange
-        when(taskRepository.save(any(Task.class))).thenReturn(task);
+        when(taskStore.save(any(Task.class))).thenReturn(task);
 
         // Act
         TaskResponseDTO result = taskService.createTask(createDTO);
@@ -115,7 +143,8 @@ class TaskServiceTest {
         assertEquals("Test Task", result.getTitle());
         assertEquals("Test Description", result.getDescription());
         assertFalse(result.getCompleted());
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskStore, times(1)).save(any(Task.class));
+        verify(taskStatistics, times(1)).onCreated(task);
     }
 
     @Test
@@ -133,8 +162,8 @@ class TaskServiceTest {
         updatedTask.setCreatedAt(task.getCreatedAt());
         updatedTask.setUpdatedAt(LocalDateTime.now());
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(updatedTask);
+        when(taskStore.findById(1L)).thenReturn(Optional.of(task));
+        when(taskStore.save(any(Task.class))).thenReturn(updatedTask);
 
         // Act
         TaskResponseDTO result = taskService.updateTask(1L, updateDTO);
@@ -143,21 +172,21 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals("Updated Task", result.getTitle());
         assertEquals("Updated Description", result.getDescription());
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskStore, times(1)).findById(1L);
+        verify(taskStore, times(1)).save(any(Task.class));
     }
 
     @Test
     void updateTask_NonExistingId_ThrowsResourceNotFoundException() {
         // Arrange
-        when(taskRepository.findById(999L)).thenReturn(Optional.empty());
+        when(taskStore.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
             taskService.updateTask(999L, createDTO);
         });
-        verify(taskRepository, times(1)).findById(999L);
-        verify(taskRepository, never()).save(any(Task.class));
+        verify(taskStore, times(1)).findById(999L);
+        verify(taskStore, never()).save(any(Task.class));
     }
 
     @Test
@@ -172,8 +201,8 @@ class TaskServiceTest {
         toggledTask.setCreatedAt(task.getCreatedAt());
         toggledTask.setUpdatedAt(LocalDateTime.now());
 
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
-        when(taskRepository.save(any(Task.class))).thenReturn(toggledTask);
+        when(taskStore.findById(1L)).thenReturn(Optional.of(task));
+        when(taskStore.save(any(Task.class))).thenReturn(toggledTask);
 
         // Act
         TaskResponseDTO result = taskService.toggleTaskCompletion(1L);
@@ -181,35 +210,38 @@ class TaskServiceTest {
         // Assert
         assertNotNull(result);
         assertTrue(result.getCompleted());
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskRepository, times(1)).save(any(Task.class));
+        verify(taskStore, times(1)).findById(1L);
+        verify(taskStore, times(1)).save(any(Task.class));
+        verify(taskStatistics, times(1)).onCompletionChanged(true);
     }
 
     @Test
     void deleteTask_ExistingId_DeletesSuccessfully() {
         // Arrange
-        when(taskRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(taskRepository).deleteById(1L);
+        when(taskStore.findById(1L)).thenReturn(Optional.of(task));
+        doNothing().when(taskStore).deleteById(1L);
 
         // Act
         taskService.deleteTask(1L);
 
         // Assert
-        verify(taskRepository, times(1)).existsById(1L);
-        verify(taskRepository, times(1)).deleteById(1L);
+        verify(taskStore, times(1)).findById(1L);
+        verify(taskStore, times(1)).deleteById(1L);
+        verify(taskStatistics, times(1)).onDeleted(task);
     }
 
     @Test
     void deleteTask_NonExistingId_ThrowsResourceNotFoundException() {
         // Arrange
-        when(taskRepository.existsById(999L)).thenReturn(false);
+        when(taskStore.findById(999L)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(ResourceNotFoundException.class, () -> {
             taskService.deleteTask(999L);
         });
-        verify(taskRepository, times(1)).existsById(999L);
-        verify(taskRepository, never()).deleteById(anyLong());
+        verify(taskStore, times(1)).findById(999L);
+        verify(taskStore, never()).deleteById(anyLong());
+        verify(taskStatistics, never()).onDeleted(any(Task.class));
     }
 
     @Test
@@ -224,7 +256,7 @@ class TaskServiceTest {
         task2.setCreatedAt(LocalDateTime.now());
         task2.setUpdatedAt(LocalDateTime.now());
 
-        when(taskRepository.findByCompleted(true)).thenReturn(Arrays.asList(task, task2));
+        when(taskStore.findByCompleted(true)).thenReturn(Arrays.asList(task, task2));
 
         // Act
         List<TaskResponseDTO> result = taskService.getTasksByStatus(true);
@@ -233,13 +265,13 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(2, result.size());
         assertTrue(result.stream().allMatch(TaskResponseDTO::getCompleted));
-        verify(taskRepository, times(1)).findByCompleted(true);
+        verify(taskStore, times(1)).findByCompleted(true);
     }
 
     @Test
     void getTasksByStatus_CompletedFalse_ReturnsIncompleteTasks() {
         // Arrange
-        when(taskRepository.findByCompleted(false)).thenReturn(Arrays.asList(task));
+        when(taskStore.findByCompleted(false)).thenReturn(Arrays.asList(task));
 
         // Act
         List<TaskResponseDTO> result = taskService.getTasksByStatus(false);
@@ -248,6 +280,6 @@ class TaskServiceTest {
         assertNotNull(result);
         assertEquals(1, result.size());
         assertFalse(result.get(0).getCompleted());
-        verify(taskRepository, times(1)).findByCompleted(false);
+        verify(taskStore, times(1)).findByCompleted(false);
     }
 }
\ No newline at end of file
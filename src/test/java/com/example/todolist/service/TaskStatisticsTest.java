@@ -0,0 +1,138 @@
+package com.example.todolist.service;
+
+import com.example.todolist.dto.TaskStatsDTO;
+import com.example.todolist.model.Task;
+import com.example.todolist.repository.TaskStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisabledInNativeImage
+@ExtendWith(MockitoExtension.class)
+class TaskStatisticsTest {
+
+    @Mock
+    private TaskStore taskStore;
+
+    private TaskStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new TaskStatistics(taskStore, 30);
+    }
+
+    @Test
+    void counters_FollowCreateToggleAndDelete() {
+        // Arrange
+        Task task = task(false, LocalDateTime.now());
+
+        // Act
+        statistics.onCreated(task);
+        statistics.onCreated(task(false, LocalDateTime.now()));
+        statistics.onCompletionChanged(true);
+        task.setCompleted(true);
+        statistics.onDeleted(task);
+        TaskStatsDTO stats = statistics.snapshot();
+
+        // Assert
+        assertEquals(1, stats.getTotal());
+        assertEquals(0, stats.getCompleted());
+        assertEquals(1, stats.getPending());
+        assertEquals(2L, stats.getCreatedPerDay().get(LocalDate.now()));
+        verifyNoInteractions(taskStore);
+    }
+
+    @Test
+    void snapshot_OmitsDaysOutsideRetention() {
+        // Arrange
+        statistics.onCreated(task(false, LocalDateTime.now().minusDays(45)));
+
+        // Act
+        TaskStatsDTO stats = statistics.snapshot();
+
+        // Assert
+        assertEquals(1, stats.getTotal());
+        assertTrue(stats.getCreatedPerDay().isEmpty());
+    }
+
+    @Test
+    void reconcile_ReplacesCountersWithStoreValues() {
+        // Arrange
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        statistics.onCreated(task(false, LocalDateTime.now()));
+        when(taskStore.count()).thenReturn(42L);
+        when(taskStore.countByCompleted(true)).thenReturn(40L);
+        when(taskStore.countCreatedPerDaySince(any(LocalDateTime.class))).thenReturn(Map.of(yesterday, 5L));
+
+        // Act
+        statistics.reconcile();
+        TaskStatsDTO stats = statistics.snapshot();
+
+        // Assert
+        assertEquals(42, stats.getTotal());
+        assertEquals(40, stats.getCompleted());
+        assertEquals(2, stats.getPending());
+        assertEquals(Map.of(yesterday, 5L), stats.getCreatedPerDay());
+        assertNotNull(stats.getReconciledAt());
+    }
+
+    @Test
+    void counters_InsideTransaction_ChangeOnlyAfterCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            statistics.onCreated(task(false, LocalDateTime.now()));
+            long beforeCommit = statistics.snapshot().getTotal();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+
+            // Assert
+            assertEquals(0, beforeCommit);
+            assertEquals(1, statistics.snapshot().getTotal());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void counters_RolledBackTransaction_AreUnchanged() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            statistics.onCreated(task(true, LocalDateTime.now()));
+            statistics.onCompletionChanged(true);
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TaskStatsDTO stats = statistics.snapshot();
+
+        // Assert
+        assertEquals(0, stats.getTotal());
+        assertEquals(0, stats.getCompleted());
+    }
+
+    private static Task task(boolean completed, LocalDateTime createdAt) {
+        Task task = new Task();
+        task.setTitle("Task");
+        task.setCompleted(completed);
+        task.setCreatedAt(createdAt);
+        return task;
+    }
+}
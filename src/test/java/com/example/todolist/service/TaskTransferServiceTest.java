@@ -0,0 +1,294 @@
+package com.example.todolist.service;
+
+import com.example.todolist.dto.ImportResultDTO;
+import com.example.todolist.model.Task;
+import com.example.todolist.repository.TaskStore;
+import com.example.todolist.service.TaskTransferService.Format;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisabledInNativeImage
+@ExtendWith(MockitoExtension.class)
+class TaskTransferServiceTest {
+
+    @Mock
+    private TaskStore taskStore;
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Mock
+    private TaskCacheService taskCacheService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskTransferService transferService;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        transferService = new TaskTransferService(taskStore, taskStatistics, taskCacheService,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper, transactionManager, 2, 100);
+    }
+
+    @Test
+    void importTasks_Ndjson_InsertsValidRowsInBatchesAndReportsInvalidOnes() throws Exception {
+        // Arrange
+        List<List<String>> batches = captureBatches();
+        String body = """
+                {"title":"Task one","description":"First"}
+                {"title":"x"}
+
+                not json
+                {"title":"Task two"}
+                {"title":"Task three"}
+                """;
+
+        // Act
+        ImportResultDTO result = transferService.importTasks(stream(body), Format.NDJSON);
+
+        // Assert
+        assertEquals(5, result.getProcessed());
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(2L, 4L), result.getErrors().stream().map(ImportResultDTO.RowError::getLine).toList());
+        assertTrue(result.getErrors().get(0).getMessage().startsWith("title:"));
+        assertEquals(List.of(List.of("Task one", "Task two"), List.of("Task three")), batches);
+        verify(taskStatistics, times(3)).onCreated(any(Task.class));
+        verify(taskCacheService).evictQueries();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importTasks_Csv_UsesHeaderColumnsAndQuotedFields() throws Exception {
+        // Arrange
+        List<List<String>> batches = captureBatches();
+        ArgumentCaptor<List<Task>> captor = ArgumentCaptor.forClass(List.class);
+        String body = """
+                description,title
+                "Has, a comma","Quoted ""title"""
+                ,Plain title
+                """;
+
+        // Act
+        ImportResultDTO result = transferService.importTasks(stream(body), Format.CSV);
+
+        // Assert
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(List.of("Quoted \"title\"", "Plain title")), batches);
+        verify(taskStore).insertAll(captor.capture());
+        Task first = captor.getValue().get(0);
+        assertEquals("Has, a comma", first.getDescription());
+        assertFalse(first.getCompleted());
+        assertNull(captor.getValue().get(1).getDescription());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importTasks_ExportedCsv_RestoresCompletedAndTimestamps() throws Exception {
+        // Arrange
+        ArgumentCaptor<List<Task>> captor = ArgumentCaptor.forClass(List.class);
+        String body = """
+                id,title,description,completed,createdAt,updatedAt
+                7,Buy milk,,true,2024-01-02T03:04:05,2024-01-03T03:04:05
+                8,Bad date,,false,yesterday,
+                """;
+
+        // Act
+        ImportResultDTO result = transferService.importTasks(stream(body), Format.CSV);
+
+        // Assert
+        assertEquals(1, result.getImported());
+        assertEquals(3L, result.getErrors().get(0).getLine());
+        assertTrue(result.getErrors().get(0).getMessage().contains("createdAt"));
+        verify(taskStore).insertAll(captor.capture());
+        Task task = captor.getValue().get(0);
+        assertNull(task.getId());
+        assertTrue(task.getCompleted());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), task.getCreatedAt());
+        assertEquals(LocalDateTime.of(2024, 1, 3, 3, 4, 5), task.getUpdatedAt());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importTasks_ExportedNdjson_RestoresCompletedAndTimestamps() throws Exception {
+        // Arrange
+        ArgumentCaptor<List<Task>> captor = ArgumentCaptor.forClass(List.class);
+        String body = "{\"id\":7,\"title\":\"Buy milk\",\"completed\":true,\"createdAt\":\"2024-01-02T03:04:05\"}\n";
+
+        // Act
+        ImportResultDTO result = transferService.importTasks(stream(body), Format.NDJSON);
+
+        // Assert
+        assertEquals(1, result.getImported());
+        verify(taskStore).insertAll(captor.capture());
+        Task task = captor.getValue().get(0);
+        assertNull(task.getId());
+        assertTrue(task.getCompleted());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 3, 4, 5), task.getCreatedAt());
+        // Sin updatedAt se toma createdAt
+        assertEquals(task.getCreatedAt(), task.getUpdatedAt());
+    }
+
+    @Test
+    void importTasks_CsvWithoutTitleColumn_FailsWithoutInserting() throws Exception {
+        // Act
+        ImportResultDTO result = transferService.importTasks(stream("name,description\nA task,x\n"), Format.CSV);
+
+        // Assert
+        assertEquals(0, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(1L, result.getErrors().get(0).getLine());
+        verifyNoInteractions(taskStore, taskCacheService);
+    }
+
+    @Test
+    void importTasks_NullNdjsonRecord_IsReportedAndImportContinues() throws Exception {
+        // Arrange
+        List<List<String>> batches = captureBatches();
+
+        // Act
+        ImportResultDTO result = transferService.importTasks(stream("null\n{\"title\":\"Task one\"}\n"), Format.NDJSON);
+
+        // Assert
+        assertEquals(2, result.getProcessed());
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(1L, result.getErrors().get(0).getLine());
+        assertEquals("Malformed record: expected an object", result.getErrors().get(0).getMessage());
+        assertEquals(List.of(List.of("Task one")), batches);
+    }
+
+    @Test
+    void importTasks_LineOverMaxLength_IsRejectedAndImportContinues() throws Exception {
+        // Arrange
+        List<List<String>> batches = captureBatches();
+        String body = "{\"title\":\"" + "x".repeat(200) + "\"}\r\n{\"title\":\"Task one\"}\r\n";
+
+        // Act
+        ImportResultDTO result = transferService.importTasks(stream(body), Format.NDJSON);
+
+        // Assert
+        assertEquals(2, result.getProcessed());
+        assertEquals(1, result.getFailed());
+        assertEquals(new ImportResultDTO.RowError(1, "Line exceeds 100 characters"), result.getErrors().get(0));
+        assertEquals(List.of(List.of("Task one")), batches);
+    }
+
+    @Test
+    void lineReader_KeepsLinesUpToMaxLengthAndFlagsLongerOnes() throws Exception {
+        // Arrange
+        TaskTransferService.LineReader reader = new TaskTransferService.LineReader(
+                new StringReader("abcd\r\nabcde\n\nab"), 4);
+
+        // Act & Assert
+        assertEquals("abcd", reader.readLine());
+        assertFalse(reader.isTruncated());
+        assertEquals("abcd", reader.readLine());
+        assertTrue(reader.isTruncated());
+        assertEquals("", reader.readLine());
+        assertFalse(reader.isTruncated());
+        assertEquals("ab", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    void importTasks_FailedBatch_MarksItsRowsAsFailed() throws Exception {
+        // Arrange
+        doThrow(new DataIntegrityViolationException("boom")).when(taskStore).insertAll(any());
+
+        // Act
+        ImportResultDTO result = transferService.importTasks(stream("{\"title\":\"Task one\"}\n"), Format.NDJSON);
+
+        // Assert
+        assertEquals(0, result.getImported());
+        assertEquals(1, result.getFailed());
+        verifyNoInteractions(taskStatistics, taskCacheService);
+    }
+
+    @Test
+    void exportTasks_Csv_EscapesFields() throws Exception {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        Task task = new Task(7L, "Buy milk, eggs", null, true, now, now);
+        streamTasks(task);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long written = transferService.exportTasks(Format.CSV, output);
+
+        // Assert
+        assertEquals(1, written);
+        assertEquals("id,title,description,completed,createdAt,updatedAt\n"
+                + "7,\"Buy milk, eggs\",,true,2024-01-02T03:04:05,2024-01-02T03:04:05\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportTasks_Ndjson_WritesOneObjectPerLine() throws Exception {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        streamTasks(new Task(1L, "First", null, false, now, now), new Task(2L, "Second", "d", true, now, now));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        transferService.exportTasks(Format.NDJSON, output);
+
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"id\":1") && lines[0].contains("\"createdAt\":\"2024-01-02T03:04:05\""));
+        assertTrue(lines[1].contains("\"title\":\"Second\""));
+    }
+
+    private List<List<String>> captureBatches() {
+        List<List<String>> batches = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Task> batch = invocation.getArgument(0);
+            batches.add(batch.stream().map(Task::getTitle).toList());
+            return null;
+        }).when(taskStore).insertAll(any());
+        return batches;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void streamTasks(Task... tasks) {
+        doAnswer(invocation -> {
+            Consumer<Task> action = invocation.getArgument(0);
+            for (Task task : tasks) {
+                action.accept(task);
+            }
+            return null;
+        }).when(taskStore).forEachTask(any());
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}